@@ -0,0 +1,79 @@
+package io.github.jevanlingen.luwak;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.jevanlingen.luwak.util.Do;
+
+/**
+ * Compares a fused {@code Do} pipeline with chained {@code Do} calls and with a {@code Stream} doing the same work,
+ * and {@code Do.distinct} with {@code Stream.distinct}, run with {@code -prof gc} to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoBenchmark {
+	@Param({ "10", "1000" })
+	private int size;
+
+	private List<Integer> list;
+	private List<Integer> duplicates;
+
+	@Setup
+	public void setUp() {
+		list = IntStream.range(0, size).boxed().collect(Collectors.toUnmodifiableList());
+		duplicates = IntStream.range(0, size).mapToObj(i -> list.get(i % (size / 2))).collect(Collectors.toUnmodifiableList());
+	}
+
+	@Benchmark
+	public List<Integer> pipeline() {
+		return Do.from(list).map(i -> i * 3).filter(i -> i % 2 == 0).map(i -> i + 1).toList();
+	}
+
+	@Benchmark
+	public List<Integer> chained() {
+		return Do.map(Do.filter(Do.map(list, i -> i * 3), i -> i % 2 == 0), i -> i + 1);
+	}
+
+	@Benchmark
+	public List<Integer> stream() {
+		return list.stream().map(i -> i * 3).filter(i -> i % 2 == 0).map(i -> i + 1).collect(Collectors.toUnmodifiableList());
+	}
+
+	@Benchmark
+	public boolean pipelineAnyMatch() {
+		return Do.from(list).map(i -> i * 3).filter(i -> i % 2 == 0).anyMatch(i -> i > size);
+	}
+
+	@Benchmark
+	public boolean streamAnyMatch() {
+		return list.stream().map(i -> i * 3).filter(i -> i % 2 == 0).anyMatch(i -> i > size);
+	}
+
+	@Benchmark
+	public List<Integer> distinct() {
+		return Do.distinct(duplicates);
+	}
+
+	@Benchmark
+	public List<Integer> streamDistinct() {
+		return duplicates.stream().distinct().collect(Collectors.toUnmodifiableList());
+	}
+}
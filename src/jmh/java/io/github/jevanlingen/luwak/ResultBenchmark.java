@@ -0,0 +1,94 @@
+package io.github.jevanlingen.luwak;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.jevanlingen.luwak.wrapper.Œ;
+
+/**
+ * Compares the {@code Œ} combinators with the way they used to be derived from {@code map} and {@code flatMap}.
+ * The {@code legacy} benchmarks spell out the former implementation, run with {@code -prof gc} to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+	private final Œ<Integer> success = Œ.of(1_000);
+	private final Œ<Integer> failure = Œ.stacklessFailure("failure");
+	private final Œ<Integer> fallback = Œ.of(2_000);
+	private final RuntimeException exception = failure.ifSuccessfulOrException(i -> {}).orElseThrow();
+
+	@Benchmark
+	public Œ<Integer> failureMapChain(final Blackhole blackhole) {
+		final Œ<Integer> mapped = failure.map(i -> i + 1);
+		blackhole.consume(mapped);
+		final Œ<Integer> flatMapped = mapped.flatMap(i -> Œ.of(i * 2));
+		blackhole.consume(flatMapped);
+		return flatMapped.map(i -> i - 1);
+	}
+
+	@Benchmark
+	public Œ<Integer> legacyFailureMapChain(final Blackhole blackhole) {
+		// each step used to re-wrap the exception of the previous step in a new failure, the intermediate results are
+		// consumed so escape analysis cannot remove them
+		final Œ<Integer> mapped = Œ.failure(exception);
+		blackhole.consume(mapped);
+		final Œ<Integer> flatMapped = Œ.failure(exception);
+		blackhole.consume(flatMapped);
+		return Œ.failure(exception);
+	}
+
+	@Benchmark
+	public Œ<Integer> successOr() {
+		return success.or(() -> fallback);
+	}
+
+	@Benchmark
+	public Œ<Integer> legacySuccessOr() {
+		return success.map(x -> success).orElseGet(() -> Objects.requireNonNull(fallback));
+	}
+
+	@Benchmark
+	public boolean successIsSuccessfulWithPredicate() {
+		return success.isSuccessFul(i -> i > 10);
+	}
+
+	@Benchmark
+	public boolean legacySuccessIsSuccessfulWithPredicate() {
+		return success.map(i -> i > 10).orElse(false);
+	}
+
+	@Benchmark
+	public Œ<Integer> successFilter() {
+		return success.filter(i -> i > 10);
+	}
+
+	@Benchmark
+	public Œ<Integer> legacySuccessFilter() {
+		return success.flatMap(x -> x > 10 ? success : Œ.failure("Condition did not match"));
+	}
+
+	@Benchmark
+	public String successFold() {
+		return success.fold(String::valueOf, RuntimeException::getMessage);
+	}
+
+	@Benchmark
+	public String legacySuccessFold() {
+		return success.map(String::valueOf).orElseGet(exception::getMessage);
+	}
+}
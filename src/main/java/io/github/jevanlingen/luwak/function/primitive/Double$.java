@@ -0,0 +1,25 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Represents a supplier of {@code double}-valued results. This is the
+ * {@code double}-producing primitive specialization of {@link io.github.jevanlingen.luwak.function.$}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #getAsDouble()}.
+ */
+@FunctionalInterface
+public interface Double$ extends DoubleSupplier {
+	/**
+	 * Returns the {@code Double$} alias of a non-{@code null} supplying function.
+	 *
+	 * @param supplier the supplying function
+	 * @return a {@code Double$} alias
+	 * @throws NullPointerException if supplier is {@code null}
+	 */
+	static Double$ of(DoubleSupplier supplier) {
+		Objects.requireNonNull(supplier);
+		return supplier::getAsDouble;
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Represents an operation on a single double-valued operand that produces a
+ * double-valued result. This is the primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.ƒ} for {@code double}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsDouble(double)}.
+ */
+@FunctionalInterface
+public interface DoubleUnaryƒ extends DoubleUnaryOperator {
+	/**
+	 * Returns a composed operator that first applies the {@code before}
+	 * operator to its input, and then applies this operator to the result.
+	 * If evaluation of either operator throws an exception, it is relayed to
+	 * the caller of the composed operator.
+	 *
+	 * @param before the operator to apply before this operator is applied
+	 * @return a composed operator that first applies the {@code before} operator and then applies this operator
+	 * @throws NullPointerException if before is null
+	 * @see #andThen(DoubleUnaryƒ)
+	 */
+	default DoubleUnaryƒ compose(DoubleUnaryƒ before) {
+		return of(DoubleUnaryOperator.super.compose(before));
+	}
+
+	/**
+	 * Returns a composed operator that first applies this operator to
+	 * its input, and then applies the {@code after} operator to the result.
+	 * If evaluation of either operator throws an exception, it is relayed to
+	 * the caller of the composed operator.
+	 *
+	 * @param after the operator to apply after this operator is applied
+	 * @return a composed operator that first applies this operator and then applies the {@code after} operator
+	 * @throws NullPointerException if after is null
+	 * @see #compose(DoubleUnaryƒ)
+	 */
+	default DoubleUnaryƒ andThen(DoubleUnaryƒ after) {
+		return of(DoubleUnaryOperator.super.andThen(after));
+	}
+
+	/**
+	 * Returns the {@code DoubleUnaryƒ} alias of a non-{@code null} operator.
+	 *
+	 * @param operator the operator
+	 * @return a {@code DoubleUnaryƒ} alias
+	 * @throws NullPointerException if operator is {@code null}
+	 */
+	static DoubleUnaryƒ of(DoubleUnaryOperator operator) {
+		Objects.requireNonNull(operator);
+		return operator::applyAsDouble;
+	}
+
+	/**
+	 * Returns a unary operator that always returns its input argument.
+	 *
+	 * @return a unary operator that always returns its input argument
+	 */
+	static DoubleUnaryƒ identity() {
+		return t -> t;
+	}
+}
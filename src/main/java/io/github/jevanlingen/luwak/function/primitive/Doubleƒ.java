@@ -0,0 +1,28 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+
+/**
+ * Represents a function that accepts a double-valued argument and produces a
+ * result. This is the {@code double}-consuming primitive specialization for {@link io.github.jevanlingen.luwak.function.ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(double)}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface Doubleƒ<R> extends DoubleFunction<R> {
+	/**
+	 * Returns the {@code Doubleƒ} alias of a non-{@code null} function.
+	 *
+	 * @param function the function
+	 * @param <R>      the type of the result of the function
+	 * @return a {@code Doubleƒ} alias
+	 * @throws NullPointerException if function is {@code null}
+	 */
+	static <R> Doubleƒ<R> of(DoubleFunction<R> function) {
+		Objects.requireNonNull(function);
+		return function::apply;
+	}
+}
@@ -0,0 +1,26 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Represents an operation that accepts a single {@code double}-valued argument and
+ * returns no result. This is the primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.₵} for {@code double}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(double)}.
+ */
+@FunctionalInterface
+public interface Double₵ extends DoubleConsumer {
+	/**
+	 * Returns the {@code Double₵} alias of a non-{@code null} consumer function.
+	 *
+	 * @param consumer the consumer function
+	 * @return a {@code Double₵} alias
+	 * @throws NullPointerException if consumer is {@code null}
+	 */
+	static Double₵ of(DoubleConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		return consumer::accept;
+	}
+}
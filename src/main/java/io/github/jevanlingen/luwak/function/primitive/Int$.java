@@ -0,0 +1,25 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+/**
+ * Represents a supplier of {@code int}-valued results. This is the
+ * {@code int}-producing primitive specialization of {@link io.github.jevanlingen.luwak.function.$}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #getAsInt()}.
+ */
+@FunctionalInterface
+public interface Int$ extends IntSupplier {
+	/**
+	 * Returns the {@code Int$} alias of a non-{@code null} supplying function.
+	 *
+	 * @param supplier the supplying function
+	 * @return a {@code Int$} alias
+	 * @throws NullPointerException if supplier is {@code null}
+	 */
+	static Int$ of(IntSupplier supplier) {
+		Objects.requireNonNull(supplier);
+		return supplier::getAsInt;
+	}
+}
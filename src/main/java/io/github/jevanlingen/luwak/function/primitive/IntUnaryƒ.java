@@ -0,0 +1,65 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents an operation on a single int-valued operand that produces an
+ * int-valued result. This is the primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.ƒ} for {@code int}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsInt(int)}.
+ */
+@FunctionalInterface
+public interface IntUnaryƒ extends IntUnaryOperator {
+	/**
+	 * Returns a composed operator that first applies the {@code before}
+	 * operator to its input, and then applies this operator to the result.
+	 * If evaluation of either operator throws an exception, it is relayed to
+	 * the caller of the composed operator.
+	 *
+	 * @param before the operator to apply before this operator is applied
+	 * @return a composed operator that first applies the {@code before} operator and then applies this operator
+	 * @throws NullPointerException if before is null
+	 * @see #andThen(IntUnaryƒ)
+	 */
+	default IntUnaryƒ compose(IntUnaryƒ before) {
+		return of(IntUnaryOperator.super.compose(before));
+	}
+
+	/**
+	 * Returns a composed operator that first applies this operator to
+	 * its input, and then applies the {@code after} operator to the result.
+	 * If evaluation of either operator throws an exception, it is relayed to
+	 * the caller of the composed operator.
+	 *
+	 * @param after the operator to apply after this operator is applied
+	 * @return a composed operator that first applies this operator and then applies the {@code after} operator
+	 * @throws NullPointerException if after is null
+	 * @see #compose(IntUnaryƒ)
+	 */
+	default IntUnaryƒ andThen(IntUnaryƒ after) {
+		return of(IntUnaryOperator.super.andThen(after));
+	}
+
+	/**
+	 * Returns the {@code IntUnaryƒ} alias of a non-{@code null} operator.
+	 *
+	 * @param operator the operator
+	 * @return a {@code IntUnaryƒ} alias
+	 * @throws NullPointerException if operator is {@code null}
+	 */
+	static IntUnaryƒ of(IntUnaryOperator operator) {
+		Objects.requireNonNull(operator);
+		return operator::applyAsInt;
+	}
+
+	/**
+	 * Returns a unary operator that always returns its input argument.
+	 *
+	 * @return a unary operator that always returns its input argument
+	 */
+	static IntUnaryƒ identity() {
+		return t -> t;
+	}
+}
@@ -0,0 +1,28 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Represents a function that accepts an int-valued argument and produces a
+ * result. This is the {@code int}-consuming primitive specialization for {@link io.github.jevanlingen.luwak.function.ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(int)}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface Intƒ<R> extends IntFunction<R> {
+	/**
+	 * Returns the {@code Intƒ} alias of a non-{@code null} function.
+	 *
+	 * @param function the function
+	 * @param <R>      the type of the result of the function
+	 * @return a {@code Intƒ} alias
+	 * @throws NullPointerException if function is {@code null}
+	 */
+	static <R> Intƒ<R> of(IntFunction<R> function) {
+		Objects.requireNonNull(function);
+		return function::apply;
+	}
+}
@@ -0,0 +1,26 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents an operation that accepts a single {@code int}-valued argument and
+ * returns no result. This is the primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.₵} for {@code int}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(int)}.
+ */
+@FunctionalInterface
+public interface Int₵ extends IntConsumer {
+	/**
+	 * Returns the {@code Int₵} alias of a non-{@code null} consumer function.
+	 *
+	 * @param consumer the consumer function
+	 * @return a {@code Int₵} alias
+	 * @throws NullPointerException if consumer is {@code null}
+	 */
+	static Int₵ of(IntConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		return consumer::accept;
+	}
+}
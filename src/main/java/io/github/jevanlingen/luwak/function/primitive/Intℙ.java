@@ -0,0 +1,65 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * Represents a predicate (boolean-valued function) of one int-valued
+ * argument. This is the {@code int}-consuming primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.ℙ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(int)}.
+ */
+@FunctionalInterface
+public interface Intℙ extends IntPredicate {
+	/**
+	 * Returns a composed predicate that represents a short-circuiting logical
+	 * AND of this predicate and another.  When evaluating the composed
+	 * predicate, if this predicate is {@code false}, then the {@code other}
+	 * predicate is not evaluated.
+	 *
+	 * @param other a predicate that will be logically-ANDed with this predicate
+	 * @return a composed predicate that represents the short-circuiting logical
+	 * AND of this predicate and the {@code other} predicate
+	 * @throws NullPointerException if other is null
+	 */
+	default Intℙ and(Intℙ other) {
+		return of(IntPredicate.super.and(other));
+	}
+
+	/**
+	 * Returns a predicate that represents the logical negation of this predicate.
+	 *
+	 * @return a predicate that represents the logical negation of this predicate
+	 */
+	default Intℙ negate() {
+		return of(IntPredicate.super.negate());
+	}
+
+	/**
+	 * Returns a composed predicate that represents a short-circuiting logical
+	 * OR of this predicate and another.  When evaluating the composed
+	 * predicate, if this predicate is {@code true}, then the {@code other}
+	 * predicate is not evaluated.
+	 *
+	 * @param other a predicate that will be logically-ORed with this predicate
+	 * @return a composed predicate that represents the short-circuiting logical
+	 * OR of this predicate and the {@code other} predicate
+	 * @throws NullPointerException if other is null
+	 */
+	default Intℙ or(Intℙ other) {
+		return of(IntPredicate.super.or(other));
+	}
+
+	/**
+	 * Returns the {@code Intℙ} alias of a non-{@code null} predicate.
+	 *
+	 * @param predicate the predicate
+	 * @return a {@code Intℙ} alias
+	 * @throws NullPointerException if predicate is {@code null}
+	 */
+	static Intℙ of(IntPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return predicate::test;
+	}
+}
@@ -0,0 +1,25 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Represents a supplier of {@code long}-valued results. This is the
+ * {@code long}-producing primitive specialization of {@link io.github.jevanlingen.luwak.function.$}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #getAsLong()}.
+ */
+@FunctionalInterface
+public interface Long$ extends LongSupplier {
+	/**
+	 * Returns the {@code Long$} alias of a non-{@code null} supplying function.
+	 *
+	 * @param supplier the supplying function
+	 * @return a {@code Long$} alias
+	 * @throws NullPointerException if supplier is {@code null}
+	 */
+	static Long$ of(LongSupplier supplier) {
+		Objects.requireNonNull(supplier);
+		return supplier::getAsLong;
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Represents an operation on a single long-valued operand that produces a
+ * long-valued result. This is the primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.ƒ} for {@code long}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsLong(long)}.
+ */
+@FunctionalInterface
+public interface LongUnaryƒ extends LongUnaryOperator {
+	/**
+	 * Returns a composed operator that first applies the {@code before}
+	 * operator to its input, and then applies this operator to the result.
+	 * If evaluation of either operator throws an exception, it is relayed to
+	 * the caller of the composed operator.
+	 *
+	 * @param before the operator to apply before this operator is applied
+	 * @return a composed operator that first applies the {@code before} operator and then applies this operator
+	 * @throws NullPointerException if before is null
+	 * @see #andThen(LongUnaryƒ)
+	 */
+	default LongUnaryƒ compose(LongUnaryƒ before) {
+		return of(LongUnaryOperator.super.compose(before));
+	}
+
+	/**
+	 * Returns a composed operator that first applies this operator to
+	 * its input, and then applies the {@code after} operator to the result.
+	 * If evaluation of either operator throws an exception, it is relayed to
+	 * the caller of the composed operator.
+	 *
+	 * @param after the operator to apply after this operator is applied
+	 * @return a composed operator that first applies this operator and then applies the {@code after} operator
+	 * @throws NullPointerException if after is null
+	 * @see #compose(LongUnaryƒ)
+	 */
+	default LongUnaryƒ andThen(LongUnaryƒ after) {
+		return of(LongUnaryOperator.super.andThen(after));
+	}
+
+	/**
+	 * Returns the {@code LongUnaryƒ} alias of a non-{@code null} operator.
+	 *
+	 * @param operator the operator
+	 * @return a {@code LongUnaryƒ} alias
+	 * @throws NullPointerException if operator is {@code null}
+	 */
+	static LongUnaryƒ of(LongUnaryOperator operator) {
+		Objects.requireNonNull(operator);
+		return operator::applyAsLong;
+	}
+
+	/**
+	 * Returns a unary operator that always returns its input argument.
+	 *
+	 * @return a unary operator that always returns its input argument
+	 */
+	static LongUnaryƒ identity() {
+		return t -> t;
+	}
+}
@@ -0,0 +1,28 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Represents a function that accepts a long-valued argument and produces a
+ * result. This is the {@code long}-consuming primitive specialization for {@link io.github.jevanlingen.luwak.function.ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(long)}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface Longƒ<R> extends LongFunction<R> {
+	/**
+	 * Returns the {@code Longƒ} alias of a non-{@code null} function.
+	 *
+	 * @param function the function
+	 * @param <R>      the type of the result of the function
+	 * @return a {@code Longƒ} alias
+	 * @throws NullPointerException if function is {@code null}
+	 */
+	static <R> Longƒ<R> of(LongFunction<R> function) {
+		Objects.requireNonNull(function);
+		return function::apply;
+	}
+}
@@ -0,0 +1,26 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * Represents an operation that accepts a single {@code long}-valued argument and
+ * returns no result. This is the primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.₵} for {@code long}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(long)}.
+ */
+@FunctionalInterface
+public interface Long₵ extends LongConsumer {
+	/**
+	 * Returns the {@code Long₵} alias of a non-{@code null} consumer function.
+	 *
+	 * @param consumer the consumer function
+	 * @return a {@code Long₵} alias
+	 * @throws NullPointerException if consumer is {@code null}
+	 */
+	static Long₵ of(LongConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		return consumer::accept;
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * Represents a predicate (boolean-valued function) of one long-valued
+ * argument. This is the {@code long}-consuming primitive type specialization of
+ * {@link io.github.jevanlingen.luwak.function.ℙ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(long)}.
+ */
+@FunctionalInterface
+public interface Longℙ extends LongPredicate {
+	/**
+	 * Returns a composed predicate that represents a short-circuiting logical
+	 * AND of this predicate and another.  When evaluating the composed
+	 * predicate, if this predicate is {@code false}, then the {@code other}
+	 * predicate is not evaluated.
+	 *
+	 * @param other a predicate that will be logically-ANDed with this predicate
+	 * @return a composed predicate that represents the short-circuiting logical
+	 * AND of this predicate and the {@code other} predicate
+	 * @throws NullPointerException if other is null
+	 */
+	default Longℙ and(Longℙ other) {
+		return of(LongPredicate.super.and(other));
+	}
+
+	/**
+	 * Returns a predicate that represents the logical negation of this predicate.
+	 *
+	 * @return a predicate that represents the logical negation of this predicate
+	 */
+	default Longℙ negate() {
+		return of(LongPredicate.super.negate());
+	}
+
+	/**
+	 * Returns a composed predicate that represents a short-circuiting logical
+	 * OR of this predicate and another.  When evaluating the composed
+	 * predicate, if this predicate is {@code true}, then the {@code other}
+	 * predicate is not evaluated.
+	 *
+	 * @param other a predicate that will be logically-ORed with this predicate
+	 * @return a composed predicate that represents the short-circuiting logical
+	 * OR of this predicate and the {@code other} predicate
+	 * @throws NullPointerException if other is null
+	 */
+	default Longℙ or(Longℙ other) {
+		return of(LongPredicate.super.or(other));
+	}
+
+	/**
+	 * Returns the {@code Longℙ} alias of a non-{@code null} predicate.
+	 *
+	 * @param predicate the predicate
+	 * @return a {@code Longℙ} alias
+	 * @throws NullPointerException if predicate is {@code null}
+	 */
+	static Longℙ of(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return predicate::test;
+	}
+}
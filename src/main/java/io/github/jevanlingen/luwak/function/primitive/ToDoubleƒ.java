@@ -0,0 +1,28 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Represents a function that produces a double-valued result. This is the
+ * {@code double}-producing primitive specialization for {@link io.github.jevanlingen.luwak.function.ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsDouble(Object)}.
+ *
+ * @param <T> the type of the input to the function
+ */
+@FunctionalInterface
+public interface ToDoubleƒ<T> extends ToDoubleFunction<T> {
+	/**
+	 * Returns the {@code ToDoubleƒ} alias of a non-{@code null} function.
+	 *
+	 * @param function the function
+	 * @param <T>      the type of the input to the function
+	 * @return a {@code ToDoubleƒ} alias
+	 * @throws NullPointerException if function is {@code null}
+	 */
+	static <T> ToDoubleƒ<T> of(ToDoubleFunction<T> function) {
+		Objects.requireNonNull(function);
+		return function::applyAsDouble;
+	}
+}
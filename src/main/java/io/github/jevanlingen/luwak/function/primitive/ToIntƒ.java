@@ -0,0 +1,28 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a function that produces a int-valued result. This is the
+ * {@code int}-producing primitive specialization for {@link io.github.jevanlingen.luwak.function.ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsInt(Object)}.
+ *
+ * @param <T> the type of the input to the function
+ */
+@FunctionalInterface
+public interface ToIntƒ<T> extends ToIntFunction<T> {
+	/**
+	 * Returns the {@code ToIntƒ} alias of a non-{@code null} function.
+	 *
+	 * @param function the function
+	 * @param <T>      the type of the input to the function
+	 * @return a {@code ToIntƒ} alias
+	 * @throws NullPointerException if function is {@code null}
+	 */
+	static <T> ToIntƒ<T> of(ToIntFunction<T> function) {
+		Objects.requireNonNull(function);
+		return function::applyAsInt;
+	}
+}
@@ -0,0 +1,28 @@
+package io.github.jevanlingen.luwak.function.primitive;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Represents a function that produces a long-valued result. This is the
+ * {@code long}-producing primitive specialization for {@link io.github.jevanlingen.luwak.function.ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsLong(Object)}.
+ *
+ * @param <T> the type of the input to the function
+ */
+@FunctionalInterface
+public interface ToLongƒ<T> extends ToLongFunction<T> {
+	/**
+	 * Returns the {@code ToLongƒ} alias of a non-{@code null} function.
+	 *
+	 * @param function the function
+	 * @param <T>      the type of the input to the function
+	 * @return a {@code ToLongƒ} alias
+	 * @throws NullPointerException if function is {@code null}
+	 */
+	static <T> ToLongƒ<T> of(ToLongFunction<T> function) {
+		Objects.requireNonNull(function);
+		return function::applyAsLong;
+	}
+}
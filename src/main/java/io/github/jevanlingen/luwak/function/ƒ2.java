@@ -0,0 +1,47 @@
+package io.github.jevanlingen.luwak.function;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Represents a function that accepts two arguments and produces a result.
+ * This is the two-arity specialization of {@link ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object)}.
+ *
+ * @param <T> the type of the first argument to the function
+ * @param <U> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface ƒ2<T, U, R> extends BiFunction<T, U, R> {
+	/**
+	 * Returns a composed function that first applies this function to
+	 * its input, and then applies the {@code after} function to the result.
+	 * If evaluation of either function throws an exception, it is relayed to
+	 * the caller of the composed function.
+	 *
+	 * @param <V>   the type of output of the {@code after} function, and of the composed function
+	 * @param after the function to apply after this function is applied
+	 * @return a composed function that first applies this function and then applies the {@code after} function
+	 * @throws NullPointerException if after is null
+	 */
+	default <V> ƒ2<T, U, V> andThen(ƒ<? super R, ? extends V> after) {
+		return of(BiFunction.super.andThen(after));
+	}
+
+	/**
+	 * Returns the {@code ƒ2} alias of a non-{@code null} function.
+	 *
+	 * @param function the function
+	 * @param <T>      the type of the first argument to the function
+	 * @param <U>      the type of the second argument to the function
+	 * @param <R>      the type of the result of the function
+	 * @return a {@code ƒ2} alias
+	 * @throws NullPointerException if function is {@code null}
+	 */
+	static <T, U, R> ƒ2<T, U, R> of(BiFunction<T, U, R> function) {
+		Objects.requireNonNull(function);
+		return function::apply;
+	}
+}
@@ -0,0 +1,43 @@
+package io.github.jevanlingen.luwak.function;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts three arguments and produces a result.
+ * This is the three-arity specialization of {@link ƒ}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object)}.
+ *
+ * @param <T> the type of the first argument to the function
+ * @param <U> the type of the second argument to the function
+ * @param <V> the type of the third argument to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface ƒ3<T, U, V, R> {
+	/**
+	 * Applies this function to the given arguments.
+	 *
+	 * @param t the first function argument
+	 * @param u the second function argument
+	 * @param v the third function argument
+	 * @return the function result
+	 */
+	R apply(T t, U u, V v);
+
+	/**
+	 * Returns a composed function that first applies this function to
+	 * its input, and then applies the {@code after} function to the result.
+	 * If evaluation of either function throws an exception, it is relayed to
+	 * the caller of the composed function.
+	 *
+	 * @param <W>   the type of output of the {@code after} function, and of the composed function
+	 * @param after the function to apply after this function is applied
+	 * @return a composed function that first applies this function and then applies the {@code after} function
+	 * @throws NullPointerException if after is null
+	 */
+	default <W> ƒ3<T, U, V, W> andThen(ƒ<? super R, ? extends W> after) {
+		Objects.requireNonNull(after);
+		return (T t, U u, V v) -> after.apply(apply(t, u, v));
+	}
+}
@@ -1,18 +1,41 @@
 package io.github.jevanlingen.luwak.util;
 
-import static java.util.Collections.unmodifiableList;
-import static java.util.Collections.unmodifiableSet;
+import static java.util.Collections.unmodifiableMap;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
+import io.github.jevanlingen.luwak.function.checked._ƒ;
+import io.github.jevanlingen.luwak.function.primitive.DoubleUnaryƒ;
+import io.github.jevanlingen.luwak.function.primitive.Doubleℙ;
+import io.github.jevanlingen.luwak.function.primitive.IntUnaryƒ;
+import io.github.jevanlingen.luwak.function.primitive.Intℙ;
+import io.github.jevanlingen.luwak.function.primitive.LongUnaryƒ;
+import io.github.jevanlingen.luwak.function.primitive.Longℙ;
+import io.github.jevanlingen.luwak.function.primitive.ToDoubleƒ;
+import io.github.jevanlingen.luwak.function.primitive.ToIntƒ;
+import io.github.jevanlingen.luwak.function.primitive.ToLongƒ;
 import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.ƒ2;
+import io.github.jevanlingen.luwak.function.₵;
 import io.github.jevanlingen.luwak.function.ℙ;
 import io.github.jevanlingen.luwak.wrapper.Ø;
+import io.github.jevanlingen.luwak.wrapper.ØDouble;
+import io.github.jevanlingen.luwak.wrapper.ØInt;
+import io.github.jevanlingen.luwak.wrapper.ØLong;
+import io.github.jevanlingen.luwak.wrapper.Œ;
 
 public final class Do {
 	private Do() {
@@ -23,7 +46,8 @@ public final class Do {
 
 	/**
 	 * Returns a unmodifiable list consisting of the results of applying the given
-	 * function to the elements of this list.
+	 * function to the elements of this list. For a {@link PersistentVector} a
+	 * {@code PersistentVector} of the same shape is returned.
 	 *
 	 * @param <T> The element type of the old list
 	 * @param <R> The element type of the new list
@@ -36,17 +60,32 @@ public final class Do {
 		Objects.requireNonNull(list);
 		Objects.requireNonNull(mapper);
 
-		final var newList = new ArrayList<R>();
+		if (list instanceof PersistentVector) {
+			return ((PersistentVector<T>) list).map(mapper);
+		}
 
-		for (T t : list) {
-			newList.add(mapper.apply(t));
+		final int size = list.size();
+		final Object[] newList = new Object[size];
+
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				newList[i] = mapper.apply(list.get(i));
+			}
+		}
+		else {
+			int i = 0;
+			for (T t : list) {
+				newList[i++] = mapper.apply(t);
+			}
 		}
 
-		return unmodifiableList(newList);
+		return Immutables.list(newList, size);
 	}
 
 	/**
 	 * Returns a unmodifiable list consisting of the elements of this list that match the given predicate.
+	 * If all elements match and the list is immutable already, the list itself is returned. For a
+	 * {@link PersistentVector} a {@code PersistentVector} is returned.
 	 *
 	 * @param <T> The element type of the list
 	 * @param list the list to be filtered
@@ -58,15 +97,120 @@ public final class Do {
 		Objects.requireNonNull(list);
 		Objects.requireNonNull(predicate);
 
-		final var newList = new ArrayList<T>();
+		if (list instanceof PersistentVector) {
+			return ((PersistentVector<T>) list).filter(predicate);
+		}
 
-		for (T t : list) {
-			if (predicate.test(t)) {
-				newList.add(t);
+		final int size = list.size();
+		Object[] newList = null;
+		int count = 0;
+
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				final T t = list.get(i);
+				if (predicate.test(t)) {
+					if (newList != null) {
+						newList[count] = t;
+					}
+					count++;
+				}
+				else if (newList == null) {
+					newList = copyOfPrefix(list, count, size);
+				}
+			}
+		}
+		else {
+			newList = new Object[size];
+			for (T t : list) {
+				if (predicate.test(t)) {
+					newList[count++] = t;
+				}
+			}
+		}
+
+		if (count == size && Immutables.isImmutable(list)) {
+			return list;
+		}
+		if (newList == null) {
+			return Immutables.list(list.toArray(), size);
+		}
+
+		return Immutables.list(newList, count);
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the present values of applying the given
+	 * {@code Ø}-bearing function to the elements of this list. Empty results are skipped.
+	 *
+	 * @param <T> The element type of the old list
+	 * @param <R> The element type of the new list
+	 * @param list the list to be mapped
+	 * @param mapper a {@code Ø}-bearing function to apply to each element
+	 * @return the new list
+	 * @throws NullPointerException if either list or mapper are null, or the mapper returns a {@code null} result
+	 */
+	public static <T, R> List<R> mapØ(final List<T> list, final ƒ<T, Ø<R>> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final int size = list.size();
+		final Object[] newList = new Object[size];
+		int count = 0;
+
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				final R r = mapper.apply(list.get(i)).orElse(null);
+				if (r != null) {
+					newList[count++] = r;
+				}
+			}
+		}
+		else {
+			for (T t : list) {
+				final R r = mapper.apply(t).orElse(null);
+				if (r != null) {
+					newList[count++] = r;
+				}
+			}
+		}
+
+		return Immutables.list(newList, count);
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the present values of the {@code Ø} elements of this list.
+	 * Empty elements are skipped.
+	 *
+	 * @param <T> The value type of the list elements
+	 * @param list the list to be flattened
+	 * @return the new list
+	 * @throws NullPointerException if the list or any of its elements is null
+	 */
+	public static <T> List<T> flatten(final List<Ø<T>> list) {
+		Objects.requireNonNull(list);
+
+		final int size = list.size();
+		final Object[] newList = new Object[size];
+		int count = 0;
+
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				final T t = list.get(i).orElse(null);
+				if (t != null) {
+					newList[count++] = t;
+				}
+			}
+		}
+		else {
+			for (Ø<T> optional : list) {
+				final T t = optional.orElse(null);
+				if (t != null) {
+					newList[count++] = t;
+				}
 			}
 		}
 
-		return unmodifiableList(newList);
+		return Immutables.list(newList, count);
 	}
 
 	/**
@@ -85,6 +229,15 @@ public final class Do {
 		Objects.requireNonNull(list);
 		Objects.requireNonNull(predicate);
 
+		if (list instanceof RandomAccess) {
+			for (int i = 0, size = list.size(); i < size; i++) {
+				if (predicate.test(list.get(i))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		for (T t : list) {
 			if (predicate.test(t)) {
 				return true;
@@ -113,6 +266,16 @@ public final class Do {
 		Objects.requireNonNull(list);
 		Objects.requireNonNull(predicate);
 
+		if (list instanceof RandomAccess) {
+			for (int i = 0, size = list.size(); i < size; i++) {
+				final T t = list.get(i);
+				if (predicate.test(t)) {
+					return Ø.of(t);
+				}
+			}
+			return Ø.empty();
+		}
+
 		for (T t : list) {
 			if (predicate.test(t)) {
 				return Ø.of(t);
@@ -122,11 +285,59 @@ public final class Do {
 		return Ø.empty();
 	}
 
+	/**
+	 * Returns a unmodifiable list consisting of the distinct elements of this list, according to
+	 * {@link Object#equals(Object)}, in the order of their first occurrence. The elements are deduplicated in a
+	 * compact open-addressing table, without an entry object per element like a {@code HashSet} or the
+	 * {@code LinkedHashSet} of {@code Stream.distinct} need. If all elements are distinct and the list is immutable
+	 * already, the list itself is returned.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be deduplicated
+	 * @return the new list
+	 * @throws NullPointerException if list is null
+	 */
+	public static <T> List<T> distinct(final List<T> list) {
+		Objects.requireNonNull(list);
+
+		final Object[] newList = list.toArray();
+		final int count = Immutables.distinct(newList, newList.length, null);
+		return count == newList.length && Immutables.isImmutable(list) ? list : Immutables.list(newList, count);
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the elements of this list with distinct keys, according to
+	 * {@link Object#equals(Object)}, keeping the first element of each key, in order. The key function is applied
+	 * once per element, the keys are deduplicated like {@link #distinct(List)} does. If all keys are distinct and the
+	 * list is immutable already, the list itself is returned.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal List<Event> firstPerId = Do.distinctBy(events, Event::id);
+	 * }</pre>
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be deduplicated
+	 * @param key a function to apply to each element to determine its key, may return {@code null}
+	 * @return the new list
+	 * @throws NullPointerException if either list or key are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, K> List<T> distinctBy(final List<T> list, final ƒ<T, K> key) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(key);
+
+		final Object[] newList = list.toArray();
+		final int count = Immutables.distinct(newList, newList.length, (ƒ<Object, ?>) key);
+		return count == newList.length && Immutables.isImmutable(list) ? list : Immutables.list(newList, count);
+	}
+
 	/* ---------------------------------------------------- SET ----------------------------------------------------- */
 
 	/**
 	 * Returns a unmodifiable set consisting of the results of applying th\e given
-	 * function to the elements of this set.
+	 * function to the elements of this set. For a {@link PersistentSet} a
+	 * {@code PersistentSet} is returned.
 	 *
 	 * @param <T> The element type of the old set
 	 * @param <R> The element type of the new set
@@ -139,17 +350,25 @@ public final class Do {
 		Objects.requireNonNull(set);
 		Objects.requireNonNull(mapper);
 
-		final var newSet = new HashSet<R>();
+		if (set instanceof PersistentSet) {
+			return ((PersistentSet<T>) set).map(mapper);
+		}
+
+		final Object[] newSet = new Object[set.size()];
+		int count = 0;
 
 		for (T t : set) {
-			newSet.add(mapper.apply(t));
+			newSet[count++] = mapper.apply(t);
 		}
 
-		return unmodifiableSet(newSet);
+		return Immutables.set(newSet, count);
 	}
 
 	/**
 	 * Returns a unmodifiable set consisting of the elements of this set that match the given predicate.
+	 * If all elements match and the set is immutable already, the set itself is returned. For a
+	 * {@link PersistentSet} a {@code PersistentSet} is returned, which shares its structure with the
+	 * original when only a few elements are removed.
 	 *
 	 * @param <T> The element type of the set
 	 * @param set the set to be filtered
@@ -161,15 +380,73 @@ public final class Do {
 		Objects.requireNonNull(set);
 		Objects.requireNonNull(predicate);
 
-		final var newSet = new HashSet<T>();
+		if (set instanceof PersistentSet) {
+			return ((PersistentSet<T>) set).filter(predicate);
+		}
+
+		final Object[] newSet = new Object[set.size()];
+		int count = 0;
 
 		for (T t : set) {
 			if (predicate.test(t)) {
-				newSet.add(t);
+				newSet[count++] = t;
+			}
+		}
+
+		return count == newSet.length && Immutables.isImmutable(set) ? set : Immutables.set(newSet, count);
+	}
+
+	/**
+	 * Returns a unmodifiable set consisting of the present values of applying the given
+	 * {@code Ø}-bearing function to the elements of this set. Empty results are skipped.
+	 *
+	 * @param <T> The element type of the old set
+	 * @param <R> The element type of the new set
+	 * @param set the set to be mapped
+	 * @param mapper a {@code Ø}-bearing function to apply to each element
+	 * @return the new set
+	 * @throws NullPointerException if either set or mapper are null, or the mapper returns a {@code null} result
+	 */
+	public static <T, R> Set<R> mapØ(final Set<T> set, final ƒ<T, Ø<R>> mapper) {
+		Objects.requireNonNull(set);
+		Objects.requireNonNull(mapper);
+
+		final Object[] newSet = new Object[set.size()];
+		int count = 0;
+
+		for (T t : set) {
+			final R r = mapper.apply(t).orElse(null);
+			if (r != null) {
+				newSet[count++] = r;
+			}
+		}
+
+		return Immutables.set(newSet, count);
+	}
+
+	/**
+	 * Returns a unmodifiable set consisting of the present values of the {@code Ø} elements of this set.
+	 * Empty elements are skipped.
+	 *
+	 * @param <T> The value type of the set elements
+	 * @param set the set to be flattened
+	 * @return the new set
+	 * @throws NullPointerException if the set or any of its elements is null
+	 */
+	public static <T> Set<T> flatten(final Set<Ø<T>> set) {
+		Objects.requireNonNull(set);
+
+		final Object[] newSet = new Object[set.size()];
+		int count = 0;
+
+		for (Ø<T> optional : set) {
+			final T t = optional.orElse(null);
+			if (t != null) {
+				newSet[count++] = t;
 			}
 		}
 
-		return unmodifiableSet(newSet);
+		return Immutables.set(newSet, count);
 	}
 
 	/**
@@ -225,6 +502,185 @@ public final class Do {
 		return Ø.empty();
 	}
 
+	/* ---------------------------------------------------- MAP ----------------------------------------------------- */
+
+	/**
+	 * Returns a unmodifiable map with the keys of this map, and as values the results of
+	 * applying the given function to the values of this map.
+	 *
+	 * @param <K> The key type of the maps
+	 * @param <V> The value type of the old map
+	 * @param <R> The value type of the new map
+	 * @param map the map to be mapped
+	 * @param mapper a function to apply to each value
+	 * @return the new map
+	 * @throws NullPointerException if either map or mapper are null
+	 */
+	public static <K, V, R> Map<K, R> mapValues(final Map<K, V> map, final ƒ<V, R> mapper) {
+		Objects.requireNonNull(map);
+		Objects.requireNonNull(mapper);
+
+		final var newMap = new HashMap<K, R>(capacity(map.size()));
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			newMap.put(entry.getKey(), mapper.apply(entry.getValue()));
+		}
+
+		return unmodifiableMap(newMap);
+	}
+
+	/**
+	 * Returns a unmodifiable map with as keys the results of applying the given function
+	 * to the keys of this map, and the values of this map.
+	 *
+	 * @param <K> The key type of the old map
+	 * @param <V> The value type of the maps
+	 * @param <R> The key type of the new map
+	 * @param map the map to be mapped
+	 * @param mapper a function to apply to each key
+	 * @return the new map
+	 * @throws NullPointerException if either map or mapper are null
+	 * @throws IllegalStateException if the function maps two keys to equal keys
+	 */
+	public static <K, V, R> Map<R, V> mapKeys(final Map<K, V> map, final ƒ<K, R> mapper) {
+		Objects.requireNonNull(map);
+		Objects.requireNonNull(mapper);
+
+		final var newMap = new HashMap<R, V>(capacity(map.size()));
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			final R key = mapper.apply(entry.getKey());
+			// a put of a present key leaves the size unchanged, so duplicates are found in the same lookup (values may be null)
+			final int size = newMap.size();
+			newMap.put(key, entry.getValue());
+			if (newMap.size() == size) {
+				throw new IllegalStateException("Duplicate key " + key);
+			}
+		}
+
+		return unmodifiableMap(newMap);
+	}
+
+	/**
+	 * Returns a unmodifiable map consisting of the entries of this map whose key matches the given predicate.
+	 *
+	 * @param <K> The key type of the map
+	 * @param <V> The value type of the map
+	 * @param map the map to be filtered
+	 * @param predicate a predicate to apply to each key to determine if its entry should be included
+	 * @return the new map
+	 * @throws NullPointerException if either map or predicate are null
+	 */
+	public static <K, V> Map<K, V> filterKeys(final Map<K, V> map, final ℙ<K> predicate) {
+		Objects.requireNonNull(map);
+		Objects.requireNonNull(predicate);
+
+		final var newMap = new HashMap<K, V>(capacity(map.size()));
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			if (predicate.test(entry.getKey())) {
+				newMap.put(entry.getKey(), entry.getValue());
+			}
+		}
+
+		return unmodifiableMap(newMap);
+	}
+
+	/**
+	 * Returns a unmodifiable map consisting of the entries of this map whose value matches the given predicate.
+	 *
+	 * @param <K> The key type of the map
+	 * @param <V> The value type of the map
+	 * @param map the map to be filtered
+	 * @param predicate a predicate to apply to each value to determine if its entry should be included
+	 * @return the new map
+	 * @throws NullPointerException if either map or predicate are null
+	 */
+	public static <K, V> Map<K, V> filterValues(final Map<K, V> map, final ℙ<V> predicate) {
+		Objects.requireNonNull(map);
+		Objects.requireNonNull(predicate);
+
+		final var newMap = new HashMap<K, V>(capacity(map.size()));
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			if (predicate.test(entry.getValue())) {
+				newMap.put(entry.getKey(), entry.getValue());
+			}
+		}
+
+		return unmodifiableMap(newMap);
+	}
+
+	/**
+	 * Returns whether any entries of this map match the provided
+	 * predicate. May not evaluate the predicate on all entries if not
+	 * necessary for determining the result. If the map is empty then
+	 * {@code false} is returned and the predicate is not evaluated.
+	 *
+	 * @param <K> The key type of the map
+	 * @param <V> The value type of the map
+	 * @param map the map to be matched
+	 * @param predicate a predicate to apply to entries of this map
+	 * @return {@code true} if any entries of the map match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either map or predicate are null
+	 */
+	public static <K, V> boolean anyMatch(final Map<K, V> map, final ℙ<Map.Entry<K, V>> predicate) {
+		Objects.requireNonNull(map);
+		Objects.requireNonNull(predicate);
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			if (predicate.test(entry)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns an {@code Ø} describing some entry of the map that matches the
+	 * given predicate, or an empty {@code Ø} if there is none.
+	 *
+	 * <p>The behavior of this operation is explicitly nondeterministic; it is
+	 * free to select any entry in the map.
+	 *
+	 * @param <K> The key type of the map
+	 * @param <V> The value type of the map
+	 * @param map the map to be searched through
+	 * @param predicate a predicate to apply to entries of this map
+	 * @return an {@code Ø} describing some entry of this map, or an empty {@code Ø} if there is none
+	 * @throws NullPointerException if either map or predicate are null
+	 */
+	public static <K, V> Ø<Map.Entry<K, V>> findAny(final Map<K, V> map, final ℙ<Map.Entry<K, V>> predicate) {
+		Objects.requireNonNull(map);
+		Objects.requireNonNull(predicate);
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			if (predicate.test(entry)) {
+				return Ø.of(entry);
+			}
+		}
+
+		return Ø.empty();
+	}
+
+	/**
+	 * Returns an {@code Ø} describing the value to which the given key is mapped, or an
+	 * empty {@code Ø} if this map contains no (or a {@code null}) value for the key.
+	 *
+	 * @param <K> The key type of the map
+	 * @param <V> The value type of the map
+	 * @param map the map to look in
+	 * @param key the key whose value is to be returned
+	 * @return an {@code Ø} describing the value, or an empty {@code Ø} if there is none
+	 * @throws NullPointerException if map is null
+	 */
+	public static <K, V> Ø<V> get(final Map<K, V> map, final K key) {
+		Objects.requireNonNull(map);
+
+		return Ø.ofNullable(map.get(key));
+	}
+
 	/* --------------------------------------------------- STREAM --------------------------------------------------- */
 
 	/**
@@ -248,4 +704,1576 @@ public final class Do {
 
 		return Ø.of(stream.filter(predicate).findAny());
 	}
+
+	/* ---------------------------------------------------- ARRAY --------------------------------------------------- */
+
+	/**
+	 * Returns a new array consisting of the results of applying the given
+	 * function to the elements of this array.
+	 *
+	 * @param array the array to be mapped
+	 * @param mapper a function to apply to each element
+	 * @return the new array
+	 * @throws NullPointerException if either array or mapper are null
+	 */
+	public static int[] map(final int[] array, final IntUnaryƒ mapper) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(mapper);
+
+		final int[] newArray = new int[array.length];
+
+		for (int i = 0; i < array.length; i++) {
+			newArray[i] = mapper.applyAsInt(array[i]);
+		}
+
+		return newArray;
+	}
+
+	/**
+	 * Returns a new, exactly sized array consisting of the elements of this array that match the given predicate.
+	 *
+	 * @param array the array to be filtered
+	 * @param predicate a predicate to apply to each element to determine if it should be included
+	 * @return the new array
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static int[] filter(final int[] array, final Intℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		final int[] newArray = new int[array.length];
+		int count = 0;
+
+		for (int t : array) {
+			if (predicate.test(t)) {
+				newArray[count++] = t;
+			}
+		}
+
+		return count == newArray.length ? newArray : Arrays.copyOf(newArray, count);
+	}
+
+	/**
+	 * Returns whether any elements of this array match the provided
+	 * predicate. May not evaluate the predicate on all elements if not
+	 * necessary for determining the result. If the array is empty then
+	 * {@code false} is returned and the predicate is not evaluated.
+	 *
+	 * @param array the array to be matched
+	 * @param predicate a predicate to apply to elements of this array
+	 * @return {@code true} if any elements of the array match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static boolean anyMatch(final int[] array, final Intℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		for (int t : array) {
+			if (predicate.test(t)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns an {@code ØInt} describing some element of the array that matches
+	 * the given predicate, or an empty {@code ØInt} if there is none.
+	 *
+	 * @param array the array to be searched through
+	 * @param predicate a predicate to apply to elements of this array
+	 * @return an {@code ØInt} describing some element of this array, or an empty {@code ØInt} if there is none
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static ØInt findAny(final int[] array, final Intℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		for (int t : array) {
+			if (predicate.test(t)) {
+				return ØInt.of(t);
+			}
+		}
+
+		return ØInt.empty();
+	}
+
+	/**
+	 * Returns an array consisting of the results of applying the given
+	 * {@code int}-producing function to the elements of this list.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be mapped
+	 * @param mapper a function to apply to each element
+	 * @return the new array
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T> int[] mapToInt(final List<T> list, final ToIntƒ<T> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final int size = list.size();
+		final int[] newArray = new int[size];
+
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				newArray[i] = mapper.applyAsInt(list.get(i));
+			}
+		}
+		else {
+			int i = 0;
+			for (T t : list) {
+				newArray[i++] = mapper.applyAsInt(t);
+			}
+		}
+
+		return newArray;
+	}
+
+	/**
+	 * Returns a new array consisting of the results of applying the given
+	 * function to the elements of this array.
+	 *
+	 * @param array the array to be mapped
+	 * @param mapper a function to apply to each element
+	 * @return the new array
+	 * @throws NullPointerException if either array or mapper are null
+	 */
+	public static long[] map(final long[] array, final LongUnaryƒ mapper) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(mapper);
+
+		final long[] newArray = new long[array.length];
+
+		for (int i = 0; i < array.length; i++) {
+			newArray[i] = mapper.applyAsLong(array[i]);
+		}
+
+		return newArray;
+	}
+
+	/**
+	 * Returns a new, exactly sized array consisting of the elements of this array that match the given predicate.
+	 *
+	 * @param array the array to be filtered
+	 * @param predicate a predicate to apply to each element to determine if it should be included
+	 * @return the new array
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static long[] filter(final long[] array, final Longℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		final long[] newArray = new long[array.length];
+		int count = 0;
+
+		for (long t : array) {
+			if (predicate.test(t)) {
+				newArray[count++] = t;
+			}
+		}
+
+		return count == newArray.length ? newArray : Arrays.copyOf(newArray, count);
+	}
+
+	/**
+	 * Returns whether any elements of this array match the provided
+	 * predicate. May not evaluate the predicate on all elements if not
+	 * necessary for determining the result. If the array is empty then
+	 * {@code false} is returned and the predicate is not evaluated.
+	 *
+	 * @param array the array to be matched
+	 * @param predicate a predicate to apply to elements of this array
+	 * @return {@code true} if any elements of the array match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static boolean anyMatch(final long[] array, final Longℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		for (long t : array) {
+			if (predicate.test(t)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns an {@code ØLong} describing some element of the array that matches
+	 * the given predicate, or an empty {@code ØLong} if there is none.
+	 *
+	 * @param array the array to be searched through
+	 * @param predicate a predicate to apply to elements of this array
+	 * @return an {@code ØLong} describing some element of this array, or an empty {@code ØLong} if there is none
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static ØLong findAny(final long[] array, final Longℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		for (long t : array) {
+			if (predicate.test(t)) {
+				return ØLong.of(t);
+			}
+		}
+
+		return ØLong.empty();
+	}
+
+	/**
+	 * Returns an array consisting of the results of applying the given
+	 * {@code long}-producing function to the elements of this list.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be mapped
+	 * @param mapper a function to apply to each element
+	 * @return the new array
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T> long[] mapToLong(final List<T> list, final ToLongƒ<T> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final int size = list.size();
+		final long[] newArray = new long[size];
+
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				newArray[i] = mapper.applyAsLong(list.get(i));
+			}
+		}
+		else {
+			int i = 0;
+			for (T t : list) {
+				newArray[i++] = mapper.applyAsLong(t);
+			}
+		}
+
+		return newArray;
+	}
+
+	/**
+	 * Returns a new array consisting of the results of applying the given
+	 * function to the elements of this array.
+	 *
+	 * @param array the array to be mapped
+	 * @param mapper a function to apply to each element
+	 * @return the new array
+	 * @throws NullPointerException if either array or mapper are null
+	 */
+	public static double[] map(final double[] array, final DoubleUnaryƒ mapper) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(mapper);
+
+		final double[] newArray = new double[array.length];
+
+		for (int i = 0; i < array.length; i++) {
+			newArray[i] = mapper.applyAsDouble(array[i]);
+		}
+
+		return newArray;
+	}
+
+	/**
+	 * Returns a new, exactly sized array consisting of the elements of this array that match the given predicate.
+	 *
+	 * @param array the array to be filtered
+	 * @param predicate a predicate to apply to each element to determine if it should be included
+	 * @return the new array
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static double[] filter(final double[] array, final Doubleℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		final double[] newArray = new double[array.length];
+		int count = 0;
+
+		for (double t : array) {
+			if (predicate.test(t)) {
+				newArray[count++] = t;
+			}
+		}
+
+		return count == newArray.length ? newArray : Arrays.copyOf(newArray, count);
+	}
+
+	/**
+	 * Returns whether any elements of this array match the provided
+	 * predicate. May not evaluate the predicate on all elements if not
+	 * necessary for determining the result. If the array is empty then
+	 * {@code false} is returned and the predicate is not evaluated.
+	 *
+	 * @param array the array to be matched
+	 * @param predicate a predicate to apply to elements of this array
+	 * @return {@code true} if any elements of the array match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static boolean anyMatch(final double[] array, final Doubleℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		for (double t : array) {
+			if (predicate.test(t)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns an {@code ØDouble} describing some element of the array that matches
+	 * the given predicate, or an empty {@code ØDouble} if there is none.
+	 *
+	 * @param array the array to be searched through
+	 * @param predicate a predicate to apply to elements of this array
+	 * @return an {@code ØDouble} describing some element of this array, or an empty {@code ØDouble} if there is none
+	 * @throws NullPointerException if either array or predicate are null
+	 */
+	public static ØDouble findAny(final double[] array, final Doubleℙ predicate) {
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(predicate);
+
+		for (double t : array) {
+			if (predicate.test(t)) {
+				return ØDouble.of(t);
+			}
+		}
+
+		return ØDouble.empty();
+	}
+
+	/**
+	 * Returns an array consisting of the results of applying the given
+	 * {@code double}-producing function to the elements of this list.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be mapped
+	 * @param mapper a function to apply to each element
+	 * @return the new array
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T> double[] mapToDouble(final List<T> list, final ToDoubleƒ<T> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final int size = list.size();
+		final double[] newArray = new double[size];
+
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				newArray[i] = mapper.applyAsDouble(list.get(i));
+			}
+		}
+		else {
+			int i = 0;
+			for (T t : list) {
+				newArray[i++] = mapper.applyAsDouble(t);
+			}
+		}
+
+		return newArray;
+	}
+
+	/* --------------------------------------------------- GROUP ---------------------------------------------------- */
+
+	/**
+	 * Returns an unmodifiable map of the elements of this list grouped by the key the given function assigns to
+	 * them. Each group is an unmodifiable list that keeps the order of the elements in this list. All groups are
+	 * collected in a single pass, without the intermediate collectors of {@code Collectors.groupingBy}.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal Map<String, List<Event>> byTenant = Do.groupBy(events, Event::tenant);
+	 * }</pre>
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be grouped
+	 * @param classifier a function to apply to each element to determine its key, may return {@code null}
+	 * @return the new map
+	 * @throws NullPointerException if either list or classifier are null
+	 */
+	public static <T, K> Map<K, List<T>> groupBy(final List<T> list, final ƒ<T, K> classifier) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(classifier);
+
+		final HashMap<Object, Object> groups = new HashMap<>();
+		if (list instanceof RandomAccess) {
+			for (int i = 0, size = list.size(); i < size; i++) {
+				final T t = list.get(i);
+				((Immutables.Buffer) groups.computeIfAbsent(classifier.apply(t), k -> new Immutables.Buffer())).add(t);
+			}
+		}
+		else {
+			for (T t : list) {
+				((Immutables.Buffer) groups.computeIfAbsent(classifier.apply(t), k -> new Immutables.Buffer())).add(t);
+			}
+		}
+		return toGroups(groups);
+	}
+
+	/**
+	 * Returns an unmodifiable map of the elements of this list that match the given predicate, under {@code true},
+	 * and the elements that do not, under {@code false}. Both lists are filled in a single pass and keep the order
+	 * of the elements in this list, if all elements match and the list is immutable already, the list itself is
+	 * returned under {@code true}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be partitioned
+	 * @param predicate a predicate to apply to each element to determine its half
+	 * @return the new map, always holding both keys
+	 * @throws NullPointerException if either list or predicate are null
+	 */
+	public static <T> Map<Boolean, List<T>> partition(final List<T> list, final ℙ<T> predicate) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(predicate);
+
+		// Matches fill the array from the front, the others from the back, so one array holds both halves
+		final int size = list.size();
+		final Object[] elements = new Object[size];
+		int matched = 0;
+		int others = size;
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				final T t = list.get(i);
+				if (predicate.test(t)) {
+					elements[matched++] = t;
+				}
+				else {
+					elements[--others] = t;
+				}
+			}
+		}
+		else {
+			for (T t : list) {
+				if (predicate.test(t)) {
+					elements[matched++] = t;
+				}
+				else {
+					elements[--others] = t;
+				}
+			}
+		}
+
+		final Object[] rejected = new Object[size - others];
+		for (int i = 0; i < rejected.length; i++) {
+			rejected[i] = elements[size - 1 - i];
+		}
+		final List<T> accepted = matched == size && Immutables.isImmutable(list) ? list : Immutables.list(elements, matched);
+		return Map.of(true, accepted, false, Immutables.list(rejected, rejected.length));
+	}
+
+	/**
+	 * Returns an unmodifiable list of consecutive slices of this list, each holding {@code size} elements except
+	 * for the last one, which may hold fewer. For a {@link RandomAccess} list the slices are unmodifiable views
+	 * computed on access, no element is copied, so the list should not be modified structurally while the slices
+	 * are in use. Other lists are copied into the slices.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal Do.chunk(List.of(1, 2, 3, 4, 5), 2); // [[1, 2], [3, 4], [5]]
+	 * }</pre>
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be sliced
+	 * @param size the number of elements per slice
+	 * @return the list of slices
+	 * @throws NullPointerException if list is null
+	 * @throws IllegalArgumentException if size is not positive
+	 */
+	public static <T> List<List<T>> chunk(final List<T> list, final int size) {
+		Objects.requireNonNull(list);
+		if (size < 1) {
+			throw new IllegalArgumentException("Chunk size must be positive: " + size);
+		}
+
+		if (list instanceof RandomAccess) {
+			return new Immutables.Chunks<>(list, size);
+		}
+
+		final Iterator<T> iterator = list.iterator();
+		final Object[] chunks = new Object[(list.size() + size - 1) / size];
+		for (int i = 0; i < chunks.length; i++) {
+			final Object[] chunk = new Object[i < chunks.length - 1 ? size : list.size() - i * size];
+			for (int j = 0; j < chunk.length; j++) {
+				chunk[j] = iterator.next();
+			}
+			chunks[i] = Immutables.list(chunk, chunk.length);
+		}
+		return Immutables.list(chunks, chunks.length);
+	}
+
+	/* ------------------------------------------------- AGGREGATE -------------------------------------------------- */
+
+	/**
+	 * Returns the result of folding the elements of this list from left to right, starting with the given identity:
+	 * {@code folder(...folder(folder(identity, e1), e2)..., en)}.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal long bytes = Do.fold(events, 0L, (sum, event) -> sum + event.size());
+	 * }</pre>
+	 *
+	 * @param <T> The element type of the list
+	 * @param <R> The type of the result
+	 * @param list the list to be folded
+	 * @param identity the initial value, returned for an empty list
+	 * @param folder a function that combines the result so far with the next element
+	 * @return the folded result
+	 * @throws NullPointerException if either list or folder are null
+	 */
+	public static <T, R> R fold(final List<T> list, final R identity, final ƒ2<R, T, R> folder) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(folder);
+
+		R result = identity;
+		if (list instanceof RandomAccess) {
+			for (int i = 0, size = list.size(); i < size; i++) {
+				result = folder.apply(result, list.get(i));
+			}
+		}
+		else {
+			for (T t : list) {
+				result = folder.apply(result, t);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an {@code Ø} describing the result of reducing the elements of this list from left to right, using the
+	 * first element as the initial value, or an empty {@code Ø} if the list is empty.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be reduced
+	 * @param reducer a function that combines the result so far with the next element
+	 * @return an {@code Ø} describing the reduced result, or an empty {@code Ø} if the list is empty
+	 * @throws NullPointerException if either list or reducer are null, or the result is null
+	 */
+	public static <T> Ø<T> reduce(final List<T> list, final ƒ2<T, T, T> reducer) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(reducer);
+
+		final int size = list.size();
+		if (size == 0) {
+			return Ø.empty();
+		}
+
+		T result;
+		if (list instanceof RandomAccess) {
+			result = list.get(0);
+			for (int i = 1; i < size; i++) {
+				result = reducer.apply(result, list.get(i));
+			}
+		}
+		else {
+			final Iterator<T> iterator = list.iterator();
+			result = iterator.next();
+			while (iterator.hasNext()) {
+				result = reducer.apply(result, iterator.next());
+			}
+		}
+		return Ø.of(result);
+	}
+
+	/**
+	 * Returns the count, sum, minimum, maximum and average of the values the given function assigns to the elements
+	 * of this list, all computed in a single pass.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal LongSummaryStatistics latency = Do.summarizeLong(requests, Request::latencyMillis);
+	 * }</pre>
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be summarized
+	 * @param mapper a function to apply to each element
+	 * @return the statistics of the values
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T> LongSummaryStatistics summarizeLong(final List<T> list, final ToLongƒ<T> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final var statistics = new LongSummaryStatistics();
+		if (list instanceof RandomAccess) {
+			for (int i = 0, size = list.size(); i < size; i++) {
+				statistics.accept(mapper.applyAsLong(list.get(i)));
+			}
+		}
+		else {
+			for (T t : list) {
+				statistics.accept(mapper.applyAsLong(t));
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * Returns the count, sum, minimum, maximum and average of the values the given function assigns to the elements
+	 * of this list, all computed in a single pass. The sum is compensated like {@link DoubleSummaryStatistics} does.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be summarized
+	 * @param mapper a function to apply to each element
+	 * @return the statistics of the values
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T> DoubleSummaryStatistics summarizeDouble(final List<T> list, final ToDoubleƒ<T> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final var statistics = new DoubleSummaryStatistics();
+		if (list instanceof RandomAccess) {
+			for (int i = 0, size = list.size(); i < size; i++) {
+				statistics.accept(mapper.applyAsDouble(list.get(i)));
+			}
+		}
+		else {
+			for (T t : list) {
+				statistics.accept(mapper.applyAsDouble(t));
+			}
+		}
+		return statistics;
+	}
+
+	/* ---------------------------------------------------- SORT ---------------------------------------------------- */
+
+	/**
+	 * Returns a unmodifiable list consisting of the elements of this list, sorted by the natural order of the key the
+	 * given function assigns to them. Unlike sorting with {@code Comparator.comparing}, which computes the keys on
+	 * every comparison, the keys are computed once per element, into an array the elements are sorted along with.
+	 * The sort is stable, elements with equal keys keep their order.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal List<Document> byScore = Do.sortBy(documents, Document::score);
+	 * }</pre>
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be sorted
+	 * @param key a function to apply to each element to determine its key, which must not return {@code null}
+	 * @return the new list
+	 * @throws NullPointerException if either list or key are null, or a key is null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, K extends Comparable<? super K>> List<T> sortBy(final List<T> list, final ƒ<T, K> key) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(key);
+
+		final Object[] newList = list.toArray();
+		final Object[] keys = new Object[newList.length];
+		for (int i = 0; i < newList.length; i++) {
+			keys[i] = key.apply((T) newList[i]);
+		}
+
+		Sorting.sort(keys, newList);
+		return Immutables.list(newList, newList.length);
+	}
+
+	/**
+	 * Returns a unmodifiable list of the {@code k} elements of this list with the greatest keys, greatest first. Of
+	 * elements with equal keys the first ones in this list are taken first. The elements are ranked in a heap of
+	 * {@code k} elements, in {@code O(n log k)} instead of the {@code O(n log n)} of sorting the full list, and every
+	 * key is computed once.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal List<Document> best = Do.topK(documents, 10, Document::score);
+	 * }</pre>
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be ranked
+	 * @param k the maximum number of elements to return
+	 * @param key a function to apply to each element to determine its key, which must not return {@code null}
+	 * @return the new list, holding fewer than {@code k} elements only if this list does
+	 * @throws NullPointerException if either list or key are null, or a key is null
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public static <T, K extends Comparable<? super K>> List<T> topK(final List<T> list, final int k, final ƒ<T, K> key) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(key);
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+
+		final var heap = new Sorting.Heap(k);
+		if (list instanceof RandomAccess) {
+			for (int i = 0, size = list.size(); i < size; i++) {
+				final T t = list.get(i);
+				heap.offer(key.apply(t), t, i);
+			}
+		}
+		else {
+			int i = 0;
+			for (T t : list) {
+				heap.offer(key.apply(t), t, i++);
+			}
+		}
+		return heap.toList();
+	}
+
+	/* ---------------------------------------------------- LAZY ---------------------------------------------------- */
+
+	/**
+	 * Returns a lazy view of the results of applying the given function to the elements of this iterable.
+	 * Nothing is computed up front, the function is applied each time an element is read from the view, so
+	 * reading only a part of the view only maps that part. The view reflects later changes of the source.
+	 *
+	 * <p>The {@linkplain Iterable#spliterator() spliterator} of the view splits like the one of the source,
+	 * so a view of a list or set can back a parallel stream.
+	 *
+	 * @param <T> The element type of the iterable
+	 * @param <R> The element type of the view
+	 * @param iterable the iterable to be mapped
+	 * @param mapper a function to apply to each element that is read
+	 * @return the lazy view
+	 * @throws NullPointerException if either iterable or mapper are null
+	 */
+	public static <T, R> Iterable<R> lazyMap(final Iterable<T> iterable, final ƒ<T, R> mapper) {
+		Objects.requireNonNull(iterable);
+		Objects.requireNonNull(mapper);
+
+		return new Lazy.MappedIterable<>(iterable, mapper);
+	}
+
+	/**
+	 * Returns a lazy view of the elements of this iterable that match the given predicate. Nothing is computed
+	 * up front, the predicate is tested while the view is read, up to the next matching element only. The view
+	 * reflects later changes of the source.
+	 *
+	 * @param <T> The element type of the iterable
+	 * @param iterable the iterable to be filtered
+	 * @param predicate a predicate to apply to each element to determine if it should be included
+	 * @return the lazy view
+	 * @throws NullPointerException if either iterable or predicate are null
+	 */
+	public static <T> Iterable<T> lazyFilter(final Iterable<T> iterable, final ℙ<T> predicate) {
+		Objects.requireNonNull(iterable);
+		Objects.requireNonNull(predicate);
+
+		return new Lazy.FilteredIterable<>(iterable, predicate);
+	}
+
+	/**
+	 * Returns an iterator over the results of applying the given function to the remaining elements of
+	 * this iterator. The function is applied when an element is read.
+	 *
+	 * @param <T> The element type of the iterator
+	 * @param <R> The element type of the new iterator
+	 * @param iterator the iterator to be mapped
+	 * @param mapper a function to apply to each element that is read
+	 * @return the lazy iterator
+	 * @throws NullPointerException if either iterator or mapper are null
+	 */
+	public static <T, R> Iterator<R> lazyMap(final Iterator<T> iterator, final ƒ<T, R> mapper) {
+		Objects.requireNonNull(iterator);
+		Objects.requireNonNull(mapper);
+
+		return new Lazy.MappedIterator<>(iterator, mapper);
+	}
+
+	/**
+	 * Returns an iterator over the remaining elements of this iterator that match the given predicate. The
+	 * predicate is tested while the iterator is read, up to the next matching element only.
+	 *
+	 * @param <T> The element type of the iterator
+	 * @param iterator the iterator to be filtered
+	 * @param predicate a predicate to apply to each element to determine if it should be included
+	 * @return the lazy iterator
+	 * @throws NullPointerException if either iterator or predicate are null
+	 */
+	public static <T> Iterator<T> lazyFilter(final Iterator<T> iterator, final ℙ<T> predicate) {
+		Objects.requireNonNull(iterator);
+		Objects.requireNonNull(predicate);
+
+		return new Lazy.FilteredIterator<>(iterator, predicate);
+	}
+
+	/* -------------------------------------------------- PIPELINE -------------------------------------------------- */
+
+	/**
+	 * Returns a fused pipeline over the elements of this collection. Stages like {@link Pipeline#map(ƒ)} and
+	 * {@link Pipeline#filter(ℙ)} are evaluated in a single pass by the terminal operation, unlike chained
+	 * {@code Do} calls, no intermediate list or set is created.
+	 *
+	 * @param <T> The element type of the collection
+	 * @param collection the collection to be processed
+	 * @return a pipeline without stages
+	 * @throws NullPointerException if collection is null
+	 */
+	public static <T> Pipeline<T, T> from(final Collection<T> collection) {
+		return Pipeline.of(collection);
+	}
+
+	/* ---------------------------------------------------- FILE ---------------------------------------------------- */
+
+	/**
+	 * Returns the lines of this UTF-8 encoded file, each parsed by the given function. The file is memory-mapped
+	 * and split on line ends without copying, the parser receives every line as a {@link Line}: a view of its bytes
+	 * that is only decoded when its characters are read. Each outcome is yielded as an {@code Œ}, a failure holds
+	 * the exception the parser threw, and a file that cannot be read yields a single failure.
+	 *
+	 * <p>Example:</p>
+	 * <pre>{@literal for (Œ<Event> event : Do.lines(path, Event::parse)) { ... }
+	 * }</pre>
+	 *
+	 * @param <R> The type of the parsed lines
+	 * @param path the file to read
+	 * @param parser a function to apply to each line, may throw
+	 * @return the lazy, parsed lines of the file
+	 * @throws NullPointerException if either path or parser are null
+	 */
+	public static <R> Lines<R> lines(final Path path, final _ƒ<Line, R> parser) {
+		return Lines.of(path, parser);
+	}
+
+	/* -------------------------------------------------- PARALLEL -------------------------------------------------- */
+
+	/**
+	 * Returns a unmodifiable list consisting of the results of applying the given function to the elements of
+	 * this list, like {@link #map(List, ƒ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the old list
+	 * @param <R> The element type of the new list
+	 * @param list the list to be mapped
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @return the new list
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T, R> List<R> parMap(final List<T> list, final ƒ<T, R> mapper) {
+		return parMap(list, mapper, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the results of applying the given function to the elements of
+	 * this list, like {@link #map(List, ƒ)}. The function is applied in parallel on the given pool, the order of
+	 * the elements is kept. For a {@link PersistentVector} a {@code PersistentVector} is returned. A small list (of
+	 * about a thousand elements or less) is mapped on the calling thread, like all parallel operations of this class do
+	 * with a small input.
+	 *
+	 * @param <T> The element type of the old list
+	 * @param <R> The element type of the new list
+	 * @param list the list to be mapped
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @param pool the pool to run on
+	 * @return the new list
+	 * @throws NullPointerException if either list, mapper or pool are null
+	 */
+	public static <T, R> List<R> parMap(final List<T> list, final ƒ<T, R> mapper, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return map(list, mapper);
+		}
+
+		final Object[] newList = Parallel.map(list.toArray(), mapper, pool);
+		return list instanceof PersistentVector ? PersistentVector.of(newList, newList.length) : Immutables.list(newList, newList.length);
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the elements of this list that match the given predicate,
+	 * like {@link #filter(List, ℙ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be filtered
+	 * @param predicate a non-interfering, stateless predicate to apply to each element to determine if it should be included
+	 * @return the new list
+	 * @throws NullPointerException if either list or predicate are null
+	 */
+	public static <T> List<T> parFilter(final List<T> list, final ℙ<T> predicate) {
+		return parFilter(list, predicate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the elements of this list that match the given predicate,
+	 * like {@link #filter(List, ℙ)}. The predicate is tested in parallel on the given pool, the order of the
+	 * elements is kept. If all elements match and the list is immutable already, the list itself is returned. For a
+	 * {@link PersistentVector} a {@code PersistentVector} is returned.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be filtered
+	 * @param predicate a non-interfering, stateless predicate to apply to each element to determine if it should be included
+	 * @param pool the pool to run on
+	 * @return the new list
+	 * @throws NullPointerException if either list, predicate or pool are null
+	 */
+	public static <T> List<T> parFilter(final List<T> list, final ℙ<T> predicate, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return filter(list, predicate);
+		}
+
+		final Object[] newList = list.toArray();
+		final int count = Parallel.filter(newList, predicate, pool);
+		if (count == newList.length && Immutables.isImmutable(list)) {
+			return list;
+		}
+		return list instanceof PersistentVector ? PersistentVector.of(newList, count) : Immutables.list(newList, count);
+	}
+
+	/**
+	 * Returns whether any elements of this list match the provided predicate, like {@link #anyMatch(List, ℙ)},
+	 * using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be matched
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this list
+	 * @return {@code true} if any elements of the list match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either list or predicate are null
+	 */
+	public static <T> boolean parAnyMatch(final List<T> list, final ℙ<T> predicate) {
+		return parAnyMatch(list, predicate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns whether any elements of this list match the provided predicate, like {@link #anyMatch(List, ℙ)}.
+	 * The predicate is tested in parallel on the given pool, once a match is found the remaining elements are skipped.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be matched
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this list
+	 * @param pool the pool to run on
+	 * @return {@code true} if any elements of the list match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either list, predicate or pool are null
+	 */
+	public static <T> boolean parAnyMatch(final List<T> list, final ℙ<T> predicate, final ForkJoinPool pool) {
+		return parFindAny(list, predicate, pool).isPresent();
+	}
+
+	/**
+	 * Returns an {@code Ø} describing some element of the list that matches the given predicate, like
+	 * {@link #findAny(List, ℙ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be searched through
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this list
+	 * @return an {@code Ø} describing some element of this list, or an empty {@code Ø} if the list is empty
+	 * @throws NullPointerException if either list or predicate are null
+	 */
+	public static <T> Ø<T> parFindAny(final List<T> list, final ℙ<T> predicate) {
+		return parFindAny(list, predicate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns an {@code Ø} describing some element of the list that matches the given predicate, like
+	 * {@link #findAny(List, ℙ)}. The predicate is tested in parallel on the given pool, once a match is found
+	 * the remaining elements are skipped.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be searched through
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this list
+	 * @param pool the pool to run on
+	 * @return an {@code Ø} describing some element of this list, or an empty {@code Ø} if the list is empty
+	 * @throws NullPointerException if either list, predicate or pool are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Ø<T> parFindAny(final List<T> list, final ℙ<T> predicate, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return findAny(list, predicate);
+		}
+
+		final Object[] elements = list.toArray();
+		final int index = Parallel.findAny(elements, predicate, pool);
+		return index < 0 ? Ø.empty() : Ø.of((T) elements[index]);
+	}
+
+	/**
+	 * Returns a unmodifiable set consisting of the results of applying the given function to the elements of
+	 * this set, like {@link #map(Set, ƒ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the old set
+	 * @param <R> The element type of the new set
+	 * @param set the set to be mapped
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @return the new set
+	 * @throws NullPointerException if either set or mapper are null
+	 */
+	public static <T, R> Set<R> parMap(final Set<T> set, final ƒ<T, R> mapper) {
+		return parMap(set, mapper, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a unmodifiable set consisting of the results of applying the given function to the elements of
+	 * this set, like {@link #map(Set, ƒ)}. The function is applied in parallel on the given pool. For a
+	 * {@link PersistentSet} a {@code PersistentSet} is returned.
+	 *
+	 * @param <T> The element type of the old set
+	 * @param <R> The element type of the new set
+	 * @param set the set to be mapped
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @param pool the pool to run on
+	 * @return the new set
+	 * @throws NullPointerException if either set, mapper or pool are null
+	 */
+	public static <T, R> Set<R> parMap(final Set<T> set, final ƒ<T, R> mapper, final ForkJoinPool pool) {
+		Objects.requireNonNull(set);
+		Objects.requireNonNull(mapper);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(set.size(), pool)) {
+			return map(set, mapper);
+		}
+
+		final Object[] newSet = Parallel.map(set.toArray(), mapper, pool);
+		return set instanceof PersistentSet ? PersistentSet.of(newSet, newSet.length) : Immutables.set(newSet, newSet.length);
+	}
+
+	/**
+	 * Returns a unmodifiable set consisting of the elements of this set that match the given predicate,
+	 * like {@link #filter(Set, ℙ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the set
+	 * @param set the set to be filtered
+	 * @param predicate a non-interfering, stateless predicate to apply to each element to determine if it should be included
+	 * @return the new set
+	 * @throws NullPointerException if either set or predicate are null
+	 */
+	public static <T> Set<T> parFilter(final Set<T> set, final ℙ<T> predicate) {
+		return parFilter(set, predicate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a unmodifiable set consisting of the elements of this set that match the given predicate,
+	 * like {@link #filter(Set, ℙ)}. The predicate is tested in parallel on the given pool. If all elements
+	 * match and the set is immutable already, the set itself is returned. For a {@link PersistentSet} a
+	 * {@code PersistentSet} is returned.
+	 *
+	 * @param <T> The element type of the set
+	 * @param set the set to be filtered
+	 * @param predicate a non-interfering, stateless predicate to apply to each element to determine if it should be included
+	 * @param pool the pool to run on
+	 * @return the new set
+	 * @throws NullPointerException if either set, predicate or pool are null
+	 */
+	public static <T> Set<T> parFilter(final Set<T> set, final ℙ<T> predicate, final ForkJoinPool pool) {
+		Objects.requireNonNull(set);
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(set.size(), pool)) {
+			return filter(set, predicate);
+		}
+
+		final Object[] newSet = set.toArray();
+		final int count = Parallel.filter(newSet, predicate, pool);
+		if (count == newSet.length && Immutables.isImmutable(set)) {
+			return set;
+		}
+		return set instanceof PersistentSet ? PersistentSet.of(newSet, count) : Immutables.set(newSet, count);
+	}
+
+	/**
+	 * Returns whether any elements of this set match the provided predicate, like {@link #anyMatch(Set, ℙ)},
+	 * using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the set
+	 * @param set the set to be matched
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this set
+	 * @return {@code true} if any elements of the set match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either set or predicate are null
+	 */
+	public static <T> boolean parAnyMatch(final Set<T> set, final ℙ<T> predicate) {
+		return parAnyMatch(set, predicate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns whether any elements of this set match the provided predicate, like {@link #anyMatch(Set, ℙ)}.
+	 * The predicate is tested in parallel on the given pool, once a match is found the remaining elements are skipped.
+	 *
+	 * @param <T> The element type of the set
+	 * @param set the set to be matched
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this set
+	 * @param pool the pool to run on
+	 * @return {@code true} if any elements of the set match the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if either set, predicate or pool are null
+	 */
+	public static <T> boolean parAnyMatch(final Set<T> set, final ℙ<T> predicate, final ForkJoinPool pool) {
+		return parFindAny(set, predicate, pool).isPresent();
+	}
+
+	/**
+	 * Returns an {@code Ø} describing some element of the set that matches the given predicate, like
+	 * {@link #findAny(Set, ℙ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the set
+	 * @param set the set to be searched through
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this set
+	 * @return an {@code Ø} describing some element of this set, or an empty {@code Ø} if the set is empty
+	 * @throws NullPointerException if either set or predicate are null
+	 */
+	public static <T> Ø<T> parFindAny(final Set<T> set, final ℙ<T> predicate) {
+		return parFindAny(set, predicate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns an {@code Ø} describing some element of the set that matches the given predicate, like
+	 * {@link #findAny(Set, ℙ)}. The predicate is tested in parallel on the given pool, once a match is found
+	 * the remaining elements are skipped.
+	 *
+	 * @param <T> The element type of the set
+	 * @param set the set to be searched through
+	 * @param predicate a non-interfering, stateless predicate to apply to elements of this set
+	 * @param pool the pool to run on
+	 * @return an {@code Ø} describing some element of this set, or an empty {@code Ø} if the set is empty
+	 * @throws NullPointerException if either set, predicate or pool are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Ø<T> parFindAny(final Set<T> set, final ℙ<T> predicate, final ForkJoinPool pool) {
+		Objects.requireNonNull(set);
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(set.size(), pool)) {
+			return findAny(set, predicate);
+		}
+
+		final Object[] elements = set.toArray();
+		final int index = Parallel.findAny(elements, predicate, pool);
+		return index < 0 ? Ø.empty() : Ø.of((T) elements[index]);
+	}
+
+	/**
+	 * Returns an unmodifiable map of the elements of this list grouped by key, like {@link #groupBy(List, ƒ)},
+	 * using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be grouped
+	 * @param classifier a non-interfering, stateless function to apply to each element to determine its key
+	 * @return the new map
+	 * @throws NullPointerException if either list or classifier are null
+	 */
+	public static <T, K> Map<K, List<T>> parGroupBy(final List<T> list, final ƒ<T, K> classifier) {
+		return parGroupBy(list, classifier, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns an unmodifiable map of the elements of this list grouped by key, like {@link #groupBy(List, ƒ)}.
+	 * Every task groups its own range into a private map, these are merged when the tasks are joined, so the
+	 * workers never contend on a shared map. The order of the elements within each group is kept.
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be grouped
+	 * @param classifier a non-interfering, stateless function to apply to each element to determine its key
+	 * @param pool the pool to run on
+	 * @return the new map
+	 * @throws NullPointerException if either list, classifier or pool are null
+	 */
+	public static <T, K> Map<K, List<T>> parGroupBy(final List<T> list, final ƒ<T, K> classifier, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(classifier);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return groupBy(list, classifier);
+		}
+
+		return toGroups(Parallel.groupBy(list.toArray(), classifier, pool));
+	}
+
+	/**
+	 * Returns the result of folding the elements of this list with an associative operator, like
+	 * {@link #fold(List, Object, ƒ2)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be folded
+	 * @param identity the identity of the operator, returned for an empty list
+	 * @param operator an associative, non-interfering, stateless function that combines two values
+	 * @return the folded result
+	 * @throws NullPointerException if either list or operator are null
+	 */
+	public static <T> T parFold(final List<T> list, final T identity, final ƒ2<T, T, T> operator) {
+		return parFold(list, identity, operator, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the result of folding the elements of this list with an associative operator, like
+	 * {@link #fold(List, Object, ƒ2)}. Every task folds its own range, starting from the identity, into an
+	 * accumulator that no other thread sees, the accumulators of adjacent ranges are combined with the operator
+	 * when the tasks are joined. So the identity must be a true identity, {@code operator(identity, t)} equals
+	 * {@code t}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be folded
+	 * @param identity the identity of the operator, returned for an empty list
+	 * @param operator an associative, non-interfering, stateless function that combines two values
+	 * @param pool the pool to run on
+	 * @return the folded result
+	 * @throws NullPointerException if either list, operator or pool are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T parFold(final List<T> list, final T identity, final ƒ2<T, T, T> operator, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(operator);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return fold(list, identity, operator);
+		}
+
+		return Parallel.fold(list.toArray(), new Parallel.Folder<T>() {
+			@Override
+			public T leaf(final Object[] source, final int from, final int to) {
+				T result = identity;
+				for (int i = from; i < to; i++) {
+					result = operator.apply(result, (T) source[i]);
+				}
+				return result;
+			}
+
+			@Override
+			public T combine(final T left, final T right) {
+				return operator.apply(left, right);
+			}
+		}, pool);
+	}
+
+	/**
+	 * Returns an {@code Ø} describing the result of reducing the elements of this list with an associative operator,
+	 * like {@link #reduce(List, ƒ2)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be reduced
+	 * @param operator an associative, non-interfering, stateless function that combines two values
+	 * @return an {@code Ø} describing the reduced result, or an empty {@code Ø} if the list is empty
+	 * @throws NullPointerException if either list or operator are null, or the result is null
+	 */
+	public static <T> Ø<T> parReduce(final List<T> list, final ƒ2<T, T, T> operator) {
+		return parReduce(list, operator, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns an {@code Ø} describing the result of reducing the elements of this list with an associative operator,
+	 * like {@link #reduce(List, ƒ2)}. Every task reduces its own range, the results of adjacent ranges are combined
+	 * with the operator when the tasks are joined.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be reduced
+	 * @param operator an associative, non-interfering, stateless function that combines two values
+	 * @param pool the pool to run on
+	 * @return an {@code Ø} describing the reduced result, or an empty {@code Ø} if the list is empty
+	 * @throws NullPointerException if either list, operator or pool are null, or the result is null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Ø<T> parReduce(final List<T> list, final ƒ2<T, T, T> operator, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(operator);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return reduce(list, operator);
+		}
+
+		return Ø.of(Parallel.fold(list.toArray(), new Parallel.Folder<T>() {
+			@Override
+			public T leaf(final Object[] source, final int from, final int to) {
+				T result = (T) source[from];
+				for (int i = from + 1; i < to; i++) {
+					result = operator.apply(result, (T) source[i]);
+				}
+				return result;
+			}
+
+			@Override
+			public T combine(final T left, final T right) {
+				return operator.apply(left, right);
+			}
+		}, pool));
+	}
+
+	/**
+	 * Returns the statistics of the values the given function assigns to the elements of this list, like
+	 * {@link #summarizeLong(List, ToLongƒ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be summarized
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @return the statistics of the values
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T> LongSummaryStatistics parSummarizeLong(final List<T> list, final ToLongƒ<T> mapper) {
+		return parSummarizeLong(list, mapper, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the statistics of the values the given function assigns to the elements of this list, like
+	 * {@link #summarizeLong(List, ToLongƒ)}. Every task collects its own range into statistics that no other thread
+	 * sees, these are combined when the tasks are joined.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be summarized
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @param pool the pool to run on
+	 * @return the statistics of the values
+	 * @throws NullPointerException if either list, mapper or pool are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> LongSummaryStatistics parSummarizeLong(final List<T> list, final ToLongƒ<T> mapper, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return summarizeLong(list, mapper);
+		}
+
+		return Parallel.fold(list.toArray(), new Parallel.Folder<LongSummaryStatistics>() {
+			@Override
+			public LongSummaryStatistics leaf(final Object[] source, final int from, final int to) {
+				final var statistics = new LongSummaryStatistics();
+				for (int i = from; i < to; i++) {
+					statistics.accept(mapper.applyAsLong((T) source[i]));
+				}
+				return statistics;
+			}
+
+			@Override
+			public LongSummaryStatistics combine(final LongSummaryStatistics left, final LongSummaryStatistics right) {
+				left.combine(right);
+				return left;
+			}
+		}, pool);
+	}
+
+	/**
+	 * Returns the statistics of the values the given function assigns to the elements of this list, like
+	 * {@link #summarizeDouble(List, ToDoubleƒ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be summarized
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @return the statistics of the values
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	public static <T> DoubleSummaryStatistics parSummarizeDouble(final List<T> list, final ToDoubleƒ<T> mapper) {
+		return parSummarizeDouble(list, mapper, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the statistics of the values the given function assigns to the elements of this list, like
+	 * {@link #summarizeDouble(List, ToDoubleƒ)}. Every task collects its own range into statistics that no other
+	 * thread sees, these are combined when the tasks are joined.
+	 *
+	 * @param <T> The element type of the list
+	 * @param list the list to be summarized
+	 * @param mapper a non-interfering, stateless function to apply to each element
+	 * @param pool the pool to run on
+	 * @return the statistics of the values
+	 * @throws NullPointerException if either list, mapper or pool are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> DoubleSummaryStatistics parSummarizeDouble(final List<T> list, final ToDoubleƒ<T> mapper, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return summarizeDouble(list, mapper);
+		}
+
+		return Parallel.fold(list.toArray(), new Parallel.Folder<DoubleSummaryStatistics>() {
+			@Override
+			public DoubleSummaryStatistics leaf(final Object[] source, final int from, final int to) {
+				final var statistics = new DoubleSummaryStatistics();
+				for (int i = from; i < to; i++) {
+					statistics.accept(mapper.applyAsDouble((T) source[i]));
+				}
+				return statistics;
+			}
+
+			@Override
+			public DoubleSummaryStatistics combine(final DoubleSummaryStatistics left, final DoubleSummaryStatistics right) {
+				left.combine(right);
+				return left;
+			}
+		}, pool);
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the elements of this list sorted by key, like
+	 * {@link #sortBy(List, ƒ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be sorted
+	 * @param key a non-interfering, stateless function to apply to each element to determine its key
+	 * @return the new list
+	 * @throws NullPointerException if either list or key are null, or a key is null
+	 */
+	public static <T, K extends Comparable<? super K>> List<T> parSortBy(final List<T> list, final ƒ<T, K> key) {
+		return parSortBy(list, key, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a unmodifiable list consisting of the elements of this list sorted by key, like
+	 * {@link #sortBy(List, ƒ)}. The keys are computed in parallel on the given pool, then the halves of the list are
+	 * sorted in parallel and merged, the sort stays stable.
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be sorted
+	 * @param key a non-interfering, stateless function to apply to each element to determine its key
+	 * @param pool the pool to run on
+	 * @return the new list
+	 * @throws NullPointerException if either list, key or pool are null, or a key is null
+	 */
+	public static <T, K extends Comparable<? super K>> List<T> parSortBy(final List<T> list, final ƒ<T, K> key, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(pool);
+
+		if (!Parallel.worthSplitting(list.size(), pool)) {
+			return sortBy(list, key);
+		}
+
+		final Object[] newList = list.toArray();
+		final Object[] keys = Parallel.map(newList, key, pool);
+		Parallel.sort(keys, newList, pool);
+		return Immutables.list(newList, newList.length);
+	}
+
+	/**
+	 * Returns a unmodifiable list of the {@code k} elements of this list with the greatest keys, like
+	 * {@link #topK(List, int, ƒ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be ranked
+	 * @param k the maximum number of elements to return
+	 * @param key a non-interfering, stateless function to apply to each element to determine its key
+	 * @return the new list, holding fewer than {@code k} elements only if this list does
+	 * @throws NullPointerException if either list or key are null, or a key is null
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public static <T, K extends Comparable<? super K>> List<T> parTopK(final List<T> list, final int k, final ƒ<T, K> key) {
+		return parTopK(list, k, key, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a unmodifiable list of the {@code k} elements of this list with the greatest keys, like
+	 * {@link #topK(List, int, ƒ)}. Every task ranks its own range in a heap of its own, the heaps of adjacent ranges
+	 * are combined when the tasks are joined.
+	 *
+	 * @param <T> The element type of the list
+	 * @param <K> The type of the keys
+	 * @param list the list to be ranked
+	 * @param k the maximum number of elements to return
+	 * @param key a non-interfering, stateless function to apply to each element to determine its key
+	 * @param pool the pool to run on
+	 * @return the new list, holding fewer than {@code k} elements only if this list does
+	 * @throws NullPointerException if either list, key or pool are null, or a key is null
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, K extends Comparable<? super K>> List<T> parTopK(final List<T> list, final int k, final ƒ<T, K> key, final ForkJoinPool pool) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(pool);
+
+		if (k <= 0 || !Parallel.worthSplitting(list.size(), pool)) {
+			return topK(list, k, key);
+		}
+
+		return Parallel.fold(list.toArray(), new Parallel.Folder<Sorting.Heap>() {
+			@Override
+			public Sorting.Heap leaf(final Object[] source, final int from, final int to) {
+				final var heap = new Sorting.Heap(k);
+				for (int i = from; i < to; i++) {
+					heap.offer(key.apply((T) source[i]), source[i], i);
+				}
+				return heap;
+			}
+
+			@Override
+			public Sorting.Heap combine(final Sorting.Heap left, final Sorting.Heap right) {
+				return left.combine(right);
+			}
+		}, pool).toList();
+	}
+
+	/**
+	 * Performs the given action for the outcome of parsing every line of this UTF-8 encoded file, like
+	 * {@link #lines(Path, _ƒ)}, using the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param <R> The type of the parsed lines
+	 * @param path the file to read
+	 * @param parser a non-interfering, stateless function to apply to each line, may throw
+	 * @param action a thread-safe action to perform for each outcome
+	 * @throws NullPointerException if either path, parser or action are null
+	 */
+	public static <R> void parLines(final Path path, final _ƒ<Line, R> parser, final ₵<? super Œ<R>> action) {
+		parLines(path, parser, action, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Performs the given action for the outcome of parsing every line of this UTF-8 encoded file, like
+	 * {@link #lines(Path, _ƒ)}. The file is split into chunks on line boundaries, four per worker of the given pool,
+	 * which are parsed in parallel. The outcomes are handed to the action as they are parsed, none is kept, so a file
+	 * of any size is processed in constant memory. The action is called from the workers concurrently and in no
+	 * particular order, to process the chunks in file order use {@link Lines#chunks(int)} instead.
+	 *
+	 * @param <R> The type of the parsed lines
+	 * @param path the file to read
+	 * @param parser a non-interfering, stateless function to apply to each line, may throw
+	 * @param action a thread-safe action to perform for each outcome
+	 * @param pool the pool to run on
+	 * @throws NullPointerException if either path, parser, action or pool are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> void parLines(final Path path, final _ƒ<Line, R> parser, final ₵<? super Œ<R>> action, final ForkJoinPool pool) {
+		Objects.requireNonNull(action);
+		Objects.requireNonNull(pool);
+
+		final Lines<R> lines = lines(path, parser);
+		if (pool.getParallelism() == 1) {
+			lines.forEach(action);
+			return;
+		}
+
+		// A chunk is a coarse unit of work already, so the chunks skip the sequential threshold of the other operations
+		Parallel.forEach(lines.chunks(pool.getParallelism() << 2).toArray(), chunk -> ((Lines<R>) chunk).forEach(action), pool);
+	}
+
+	/* --------------------------------------------------- HELPERS -------------------------------------------------- */
+
+	/**
+	 * Returns the initial capacity of a hash based collection that holds {@code size} elements without rehashing.
+	 */
+	private static int capacity(final int size) {
+		return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+	}
+
+	/**
+	 * Turns the buffers of a map of groups into unmodifiable lists, in place, so the map is not rehashed.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <K, T> Map<K, List<T>> toGroups(final HashMap<Object, Object> groups) {
+		groups.replaceAll((key, buffer) -> ((Immutables.Buffer) buffer).toList());
+		return unmodifiableMap((Map<K, List<T>>) (Map<?, ?>) groups);
+	}
+
+	/**
+	 * Returns an array of {@code size} slots holding the first {@code count} elements of the (random access) list,
+	 * once the first element is rejected. Until then nothing is copied, so a filter that keeps everything does not
+	 * allocate.
+	 */
+	private static Object[] copyOfPrefix(final List<?> list, final int count, final int size) {
+		final Object[] prefix = new Object[size];
+		for (int i = 0; i < count; i++) {
+			prefix[i] = list.get(i);
+		}
+		return prefix;
+	}
 }
@@ -0,0 +1,329 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.github.jevanlingen.luwak.function.ƒ;
+
+/**
+ * Compact, immutable collections as returned by {@link Do}. They are backed by exactly sized arrays, the
+ * zero, one and two element cases don't need an array at all. Unlike {@link List#of} they permit {@code null}
+ * elements, just like the unmodifiable {@code ArrayList} and {@code HashSet} copies {@code Do} used to return.
+ */
+final class Immutables {
+	private static final Set<Class<?>> JDK_IMMUTABLES = Set.copyOf(List.of(
+			List.of().getClass(), List.of(1).getClass(), List.of(1, 2, 3).getClass(),
+			Set.of().getClass(), Set.of(1).getClass(), Set.of(1, 2, 3).getClass(),
+			Collections.emptyList().getClass(), Collections.singletonList(1).getClass(),
+			Collections.emptySet().getClass(), Collections.singleton(1).getClass()));
+
+	private Immutables() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Returns whether the given collection can never change, so it may be handed out instead of a copy.
+	 */
+	static boolean isImmutable(final Collection<?> collection) {
+		return collection instanceof Pair
+				|| collection instanceof ArrayBackedList
+				|| collection instanceof ArraySet
+				|| collection instanceof PersistentVector
+				|| collection instanceof PersistentSet
+				|| JDK_IMMUTABLES.contains(collection.getClass());
+	}
+
+	/**
+	 * Returns an immutable list of the first {@code size} elements of the given array. The array is
+	 * used as is when it is exactly sized, so the caller must not modify it afterwards.
+	 */
+	@SuppressWarnings("unchecked")
+	static <E> List<E> list(final Object[] elements, final int size) {
+		switch (size) {
+			case 0:
+				return Collections.emptyList();
+			case 1:
+				return Collections.singletonList((E) elements[0]);
+			case 2:
+				return new Pair<>((E) elements[0], (E) elements[1]);
+			default:
+				return new ArrayBackedList<>(size == elements.length ? elements : Arrays.copyOf(elements, size));
+		}
+	}
+
+	/**
+	 * Returns an immutable set of the first {@code size} elements of the given array, duplicates are dropped
+	 * and the iteration order is the order of first occurrence. The array is not retained.
+	 */
+	@SuppressWarnings("unchecked")
+	static <E> Set<E> set(final Object[] elements, final int size) {
+		switch (size) {
+			case 0:
+				return Collections.emptySet();
+			case 1:
+				return Collections.singleton((E) elements[0]);
+			default:
+				return ArraySet.of(elements, size);
+		}
+	}
+
+	/**
+	 * Moves the first element of each distinct key to the front of the array, in order, and returns their number.
+	 * The keys are deduplicated in an open-addressing table that is dropped afterwards, a {@code null} key function
+	 * uses the elements as keys.
+	 */
+	static int distinct(final Object[] elements, final int size, final ƒ<Object, ?> key) {
+		final Object[] table = new Object[ArraySet.tableSize(size)];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			final Object element = elements[i];
+			if (ArraySet.add(table, key == null ? element : key.apply(element))) {
+				elements[count++] = element;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * An append-only buffer that grows by doubling, its array becomes the backing array of the final list when it
+	 * happens to be full.
+	 */
+	static final class Buffer {
+		private Object[] elements = new Object[4];
+		private int size;
+
+		void add(final Object element) {
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, size << 1);
+			}
+			elements[size++] = element;
+		}
+
+		Buffer addAll(final Buffer other) {
+			if (size + other.size > elements.length) {
+				elements = Arrays.copyOf(elements, Math.max(size + other.size, size << 1));
+			}
+			System.arraycopy(other.elements, 0, elements, size, other.size);
+			size += other.size;
+			return this;
+		}
+
+		<E> List<E> toList() {
+			return list(elements, size);
+		}
+	}
+
+	/**
+	 * The consecutive, fixed size slices of a random access list. The slices are computed on access, as
+	 * unmodifiable views of the list, so no element is copied.
+	 */
+	static final class Chunks<E> extends AbstractList<List<E>> implements RandomAccess {
+		private final List<E> list;
+		private final int chunkSize;
+
+		Chunks(final List<E> list, final int chunkSize) {
+			this.list = list;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public List<E> get(final int index) {
+			Objects.checkIndex(index, size());
+			final int from = index * chunkSize;
+			final List<E> slice = list.subList(from, Math.min(from + chunkSize, list.size()));
+			return isImmutable(list) ? slice : Collections.unmodifiableList(slice);
+		}
+
+		@Override
+		public int size() {
+			return (list.size() + chunkSize - 1) / chunkSize;
+		}
+	}
+
+	/**
+	 * An immutable list of exactly two elements.
+	 */
+	static final class Pair<E> extends AbstractList<E> implements RandomAccess {
+		private final E first;
+		private final E second;
+
+		Pair(final E first, final E second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public E get(final int index) {
+			if (index == 0) {
+				return first;
+			}
+			if (index == 1) {
+				return second;
+			}
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: 2");
+		}
+
+		@Override
+		public int size() {
+			return 2;
+		}
+
+		@Override
+		public void forEach(final Consumer<? super E> action) {
+			action.accept(first);
+			action.accept(second);
+		}
+	}
+
+	/**
+	 * An immutable list backed by an exactly sized array.
+	 */
+	static final class ArrayBackedList<E> extends AbstractList<E> implements RandomAccess {
+		private final Object[] elements;
+
+		ArrayBackedList(final Object[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E get(final int index) {
+			Objects.checkIndex(index, elements.length);
+			return (E) elements[index];
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+
+		@Override
+		public Object[] toArray() {
+			return elements.clone();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void forEach(final Consumer<? super E> action) {
+			for (Object element : elements) {
+				action.accept((E) element);
+			}
+		}
+	}
+
+	/**
+	 * An immutable set backed by an exactly sized array of its elements, in order of first occurrence, plus an
+	 * open-addressing (linear probing) table for the lookups. No node object is created per element.
+	 */
+	static final class ArraySet<E> extends AbstractSet<E> {
+		private static final Object NULL = new Object();
+
+		private final Object[] elements;
+		private final Object[] table;
+
+		private ArraySet(final Object[] elements, final Object[] table) {
+			this.elements = elements;
+			this.table = table;
+		}
+
+		static <E> ArraySet<E> of(final Object[] candidates, final int size) {
+			final Object[] table = new Object[tableSize(size)];
+			final Object[] elements = new Object[size];
+			int count = 0;
+
+			for (int i = 0; i < size; i++) {
+				if (add(table, candidates[i])) {
+					elements[count++] = candidates[i];
+				}
+			}
+
+			return new ArraySet<>(count == size ? elements : Arrays.copyOf(elements, count), table);
+		}
+
+		@Override
+		public boolean contains(final Object o) {
+			final Object key = o == null ? NULL : o;
+			int slot = slot(key, table.length);
+			while (table[slot] != null) {
+				if (table[slot].equals(key)) {
+					return true;
+				}
+				slot = (slot + 1) & (table.length - 1);
+			}
+			return false;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return new Iterator<>() {
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return index < elements.length;
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public E next() {
+					if (index >= elements.length) {
+						throw new NoSuchElementException();
+					}
+					return (E) elements[index++];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void forEach(final Consumer<? super E> action) {
+			for (Object element : elements) {
+				action.accept((E) element);
+			}
+		}
+
+		/**
+		 * Adds the element to the probe table, unless an equal element is present already, and returns whether it
+		 * was added. The table holds the elements themselves, no entry objects.
+		 */
+		private static boolean add(final Object[] table, final Object element) {
+			final Object key = element == null ? NULL : element;
+			int slot = slot(key, table.length);
+			while (table[slot] != null) {
+				if (table[slot].equals(key)) {
+					return false;
+				}
+				slot = (slot + 1) & (table.length - 1);
+			}
+			table[slot] = key;
+			return true;
+		}
+
+		/**
+		 * Returns a power of two of at least twice the size, which keeps the probe sequences short.
+		 */
+		private static int tableSize(final int size) {
+			return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+		}
+
+		private static int slot(final Object key, final int length) {
+			final int h = key.hashCode();
+			return (h ^ (h >>> 16)) & (length - 1);
+		}
+	}
+}
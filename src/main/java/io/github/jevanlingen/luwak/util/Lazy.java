@@ -0,0 +1,238 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.ℙ;
+
+/**
+ * The lazy views behind {@link Do#lazyMap} and {@link Do#lazyFilter}. A view holds its source and its function only,
+ * elements are read from the source and transformed one at a time, when the caller asks for them.
+ */
+final class Lazy {
+	private Lazy() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	static final class MappedIterable<T, R> implements Iterable<R> {
+		private final Iterable<T> source;
+		private final ƒ<? super T, ? extends R> mapper;
+
+		MappedIterable(final Iterable<T> source, final ƒ<? super T, ? extends R> mapper) {
+			this.source = source;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public Iterator<R> iterator() {
+			return new MappedIterator<>(source.iterator(), mapper);
+		}
+
+		@Override
+		public Spliterator<R> spliterator() {
+			return new MappedSpliterator<>(source.spliterator(), mapper);
+		}
+
+		@Override
+		public void forEach(final Consumer<? super R> action) {
+			source.forEach(t -> action.accept(mapper.apply(t)));
+		}
+	}
+
+	static final class FilteredIterable<T> implements Iterable<T> {
+		private final Iterable<T> source;
+		private final ℙ<? super T> predicate;
+
+		FilteredIterable(final Iterable<T> source, final ℙ<? super T> predicate) {
+			this.source = source;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new FilteredIterator<>(source.iterator(), predicate);
+		}
+
+		@Override
+		public Spliterator<T> spliterator() {
+			return new FilteredSpliterator<>(source.spliterator(), predicate);
+		}
+
+		@Override
+		public void forEach(final Consumer<? super T> action) {
+			source.forEach(t -> {
+				if (predicate.test(t)) {
+					action.accept(t);
+				}
+			});
+		}
+	}
+
+	static final class MappedIterator<T, R> implements Iterator<R> {
+		private final Iterator<T> source;
+		private final ƒ<? super T, ? extends R> mapper;
+
+		MappedIterator(final Iterator<T> source, final ƒ<? super T, ? extends R> mapper) {
+			this.source = source;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return source.hasNext();
+		}
+
+		@Override
+		public R next() {
+			return mapper.apply(source.next());
+		}
+	}
+
+	/**
+	 * Looks ahead one element at most, to answer {@link #hasNext()}.
+	 */
+	static final class FilteredIterator<T> implements Iterator<T> {
+		private final Iterator<T> source;
+		private final ℙ<? super T> predicate;
+		private T next;
+		private boolean hasNext;
+
+		FilteredIterator(final Iterator<T> source, final ℙ<? super T> predicate) {
+			this.source = source;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!hasNext && source.hasNext()) {
+				final T t = source.next();
+				if (predicate.test(t)) {
+					next = t;
+					hasNext = true;
+				}
+			}
+			return hasNext;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final T t = next;
+			next = null;
+			hasNext = false;
+			return t;
+		}
+	}
+
+	/**
+	 * Splits like its source, the mapped elements are no longer known to be sorted, distinct or non-null.
+	 */
+	static final class MappedSpliterator<T, R> implements Spliterator<R> {
+		private final Spliterator<T> source;
+		private final ƒ<? super T, ? extends R> mapper;
+
+		MappedSpliterator(final Spliterator<T> source, final ƒ<? super T, ? extends R> mapper) {
+			this.source = source;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super R> action) {
+			return source.tryAdvance(t -> action.accept(mapper.apply(t)));
+		}
+
+		@Override
+		public void forEachRemaining(final Consumer<? super R> action) {
+			source.forEachRemaining(t -> action.accept(mapper.apply(t)));
+		}
+
+		@Override
+		public Spliterator<R> trySplit() {
+			final Spliterator<T> prefix = source.trySplit();
+			return prefix == null ? null : new MappedSpliterator<>(prefix, mapper);
+		}
+
+		@Override
+		public long estimateSize() {
+			return source.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return source.characteristics() & ~(SORTED | DISTINCT | NONNULL);
+		}
+	}
+
+	/**
+	 * Splits like its source, the number of matching elements is unknown up front.
+	 */
+	static final class FilteredSpliterator<T> implements Spliterator<T>, Consumer<T> {
+		private final Spliterator<T> source;
+		private final ℙ<? super T> predicate;
+		private T current;
+		private boolean matched;
+
+		FilteredSpliterator(final Spliterator<T> source, final ℙ<? super T> predicate) {
+			this.source = source;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public void accept(final T t) {
+			if (predicate.test(t)) {
+				current = t;
+				matched = true;
+			}
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action) {
+			while (!matched) {
+				if (!source.tryAdvance(this)) {
+					return false;
+				}
+			}
+			final T t = current;
+			current = null;
+			matched = false;
+			action.accept(t);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(final Consumer<? super T> action) {
+			source.forEachRemaining(t -> {
+				if (predicate.test(t)) {
+					action.accept(t);
+				}
+			});
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			final Spliterator<T> prefix = source.trySplit();
+			return prefix == null ? null : new FilteredSpliterator<>(prefix, predicate);
+		}
+
+		@Override
+		public long estimateSize() {
+			return source.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return source.characteristics() & ~(SIZED | SUBSIZED);
+		}
+
+		@Override
+		public Comparator<? super T> getComparator() {
+			return source.getComparator();
+		}
+	}
+}
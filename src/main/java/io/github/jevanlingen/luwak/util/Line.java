@@ -0,0 +1,105 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A single line of a file read by {@link Do#lines(java.nio.file.Path, io.github.jevanlingen.luwak.function.checked._ƒ)},
+ * without its line terminator. A line is a view of the UTF-8 encoded bytes of the memory-mapped file, nothing is
+ * copied or decoded up front.
+ *
+ * <p>As a {@link CharSequence} a line decodes lazily: a line of ASCII characters is read straight from its bytes,
+ * any other line is decoded once, when its characters are first asked for. Parsers that accept a
+ * {@code CharSequence}, like {@link Integer#parseInt(CharSequence, int, int, int)}, do not need a {@code String} at
+ * all, {@link #toString()} creates one on demand.
+ */
+public final class Line implements CharSequence {
+	private static final byte UNKNOWN = 0;
+	private static final byte ASCII = 1;
+	private static final byte DECODED = 2;
+
+	private final ByteBuffer buffer;
+	private final int offset;
+	private final int byteLength;
+
+	private byte state;
+	private String string;
+
+	Line(final ByteBuffer buffer, final int offset, final int byteLength) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.byteLength = byteLength;
+	}
+
+	/**
+	 * Returns the bytes of this line, as a read-only view of the file.
+	 *
+	 * @return the bytes of this line
+	 */
+	public ByteBuffer bytes() {
+		final ByteBuffer bytes = buffer.duplicate();
+		bytes.position(offset).limit(offset + byteLength);
+		return bytes.slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns the number of bytes of this line, which equals {@link #length()} for a line of ASCII characters.
+	 *
+	 * @return the number of bytes of this line
+	 */
+	public int byteLength() {
+		return byteLength;
+	}
+
+	@Override
+	public int length() {
+		return isAscii() ? byteLength : string.length();
+	}
+
+	@Override
+	public char charAt(final int index) {
+		if (isAscii()) {
+			return (char) buffer.get(offset + Objects.checkIndex(index, byteLength));
+		}
+		return string.charAt(index);
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		if (isAscii()) {
+			Objects.checkFromToIndex(start, end, byteLength);
+			final var line = new Line(buffer, offset + start, end - start);
+			line.state = ASCII;
+			return line;
+		}
+		return string.subSequence(start, end);
+	}
+
+	@Override
+	public String toString() {
+		if (string == null) {
+			final byte[] bytes = new byte[byteLength];
+			buffer.duplicate().position(offset).get(bytes);
+			string = new String(bytes, isAscii() ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+		}
+		return string;
+	}
+
+	/**
+	 * Scans the bytes once, a line with any non-ASCII byte is decoded right away.
+	 */
+	private boolean isAscii() {
+		if (state == UNKNOWN) {
+			state = ASCII;
+			for (int i = offset, end = offset + byteLength; i < end; i++) {
+				if (buffer.get(i) < 0) {
+					state = DECODED;
+					toString();
+					break;
+				}
+			}
+		}
+		return state == ASCII;
+	}
+}
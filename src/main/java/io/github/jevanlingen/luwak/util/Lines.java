@@ -0,0 +1,296 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import io.github.jevanlingen.luwak.function.checked._ƒ;
+import io.github.jevanlingen.luwak.wrapper.Œ;
+
+/**
+ * The parsed lines of a memory-mapped, UTF-8 encoded file, as created by {@link Do#lines(Path, _ƒ)}. Every line is
+ * handed to the parser as a {@link Line}, a view of the mapped bytes, and the outcome is yielded as an {@code Œ}:
+ * a success holding the parsed value or a failure holding the exception the parser threw. Lines end with
+ * {@code \n} or {@code \r\n}, like {@link java.io.BufferedReader#readLine()} an empty last line is not yielded.
+ *
+ * <p>The lines are lazy, each iteration reads the file from the mapped memory again and nothing is kept in between.
+ * A file that cannot be read yields a single failure. The file is mapped in windows of at most 1 GiB, so files larger
+ * than 2 GiB are supported, provided no single line exceeds a window.
+ *
+ * <p>{@link #chunks(int)} and {@link #spliterator()} split the file on line boundaries, so it can be processed in
+ * parallel, see {@link Do#parLines(Path, _ƒ, io.github.jevanlingen.luwak.function.₵)}. The file should not be modified while its lines are read.
+ *
+ * @param <R> the type of the parsed lines
+ */
+public final class Lines<R> implements Iterable<Œ<R>> {
+	private static final int WINDOW = 1 << 30;
+
+	/**
+	 * The number of bytes below which a spliterator does not split any further.
+	 */
+	private static final int MIN_SPLIT = 1 << 16;
+
+	private static final ByteBuffer[] NO_SEGMENTS = new ByteBuffer[0];
+
+	/**
+	 * The mapped parts of the file, each ends with a line end or the end of the file.
+	 */
+	private final ByteBuffer[] segments;
+	private final _ƒ<Line, R> parser;
+	private final IOException failure;
+
+	private Lines(final ByteBuffer[] segments, final _ƒ<Line, R> parser, final IOException failure) {
+		this.segments = segments;
+		this.parser = parser;
+		this.failure = failure;
+	}
+
+	static <R> Lines<R> of(final Path path, final _ƒ<Line, R> parser) {
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(parser);
+
+		// The mappings stay valid after the channel is closed
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new Lines<>(map(channel), parser, null);
+		}
+		catch (IOException e) {
+			return new Lines<>(NO_SEGMENTS, parser, e);
+		}
+	}
+
+	/**
+	 * Returns the lines of this file split into at most {@code count} consecutive chunks of about the same number of
+	 * bytes, in order. No line is split, a file with fewer lines yields fewer chunks.
+	 *
+	 * @param count the maximum number of chunks
+	 * @return the chunks of this file
+	 * @throws IllegalArgumentException if count is not positive
+	 */
+	public List<Lines<R>> chunks(final int count) {
+		if (count < 1) {
+			throw new IllegalArgumentException("Chunk count must be positive: " + count);
+		}
+		if (failure != null) {
+			return List.of(this);
+		}
+
+		final ByteBuffer[][] parts = divide(segments, count);
+		final Object[] chunks = new Object[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			chunks[i] = new Lines<>(parts[i], parser, null);
+		}
+		return Immutables.list(chunks, chunks.length);
+	}
+
+	/**
+	 * Parses all lines and returns the outcomes as an unmodifiable list, in order.
+	 *
+	 * @return the new list
+	 */
+	public List<Œ<R>> toList() {
+		final var buffer = new Immutables.Buffer();
+		spliterator().forEachRemaining(buffer::add);
+		return buffer.toList();
+	}
+
+	@Override
+	public Iterator<Œ<R>> iterator() {
+		return Spliterators.iterator(spliterator());
+	}
+
+	@Override
+	public void forEach(final Consumer<? super Œ<R>> action) {
+		Objects.requireNonNull(action);
+		spliterator().forEachRemaining(action);
+	}
+
+	@Override
+	public Spliterator<Œ<R>> spliterator() {
+		return new LineSpliterator<>(segments, parser, failure);
+	}
+
+	/**
+	 * Maps the file in windows, every window but the last is cut after its last line end, the next one starts there.
+	 */
+	private static ByteBuffer[] map(final FileChannel channel) throws IOException {
+		final long size = channel.size();
+		final List<ByteBuffer> segments = new ArrayList<>();
+
+		for (long start = 0; start < size; ) {
+			final int length = (int) Math.min(WINDOW, size - start);
+			final ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+			int end = length;
+			if (start + length < size) {
+				end = lastLineEnd(window, length);
+				if (end == 0) {
+					throw new IOException("Line exceeds " + WINDOW + " bytes at offset " + start);
+				}
+			}
+
+			segments.add(slice(window, 0, end));
+			start += end;
+		}
+
+		return segments.toArray(NO_SEGMENTS);
+	}
+
+	private static int lastLineEnd(final ByteBuffer buffer, final int length) {
+		for (int i = length - 1; i >= 0; i--) {
+			if (buffer.get(i) == '\n') {
+				return i + 1;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Cuts the segments into at most {@code count} parts of about the same size, each starting at a line start.
+	 */
+	private static ByteBuffer[][] divide(final ByteBuffer[] segments, final int count) {
+		final long[] starts = new long[segments.length + 1];
+		for (int i = 0; i < segments.length; i++) {
+			starts[i + 1] = starts[i] + segments[i].limit();
+		}
+		final long total = starts[segments.length];
+
+		final List<ByteBuffer[]> parts = new ArrayList<>(count);
+		long from = 0;
+		int segment = 0;
+		for (int i = 1; i <= count && from < total; i++) {
+			final long target = total / count * i + total % count * i / count;
+			while (segment < segments.length - 1 && starts[segment + 1] <= target) {
+				segment++;
+			}
+			final long to = i == count ? total : lineStartFrom(segments[segment], starts[segment], Math.max(from, target));
+			if (to > from) {
+				parts.add(range(segments, starts, from, to));
+				from = to;
+			}
+		}
+		return parts.toArray(new ByteBuffer[0][]);
+	}
+
+	/**
+	 * Returns the file offset of the first line start after the given offset, segments end with a line end.
+	 */
+	private static long lineStartFrom(final ByteBuffer segment, final long segmentStart, final long offset) {
+		for (int i = (int) (offset - segmentStart), limit = segment.limit(); i < limit; i++) {
+			if (segment.get(i) == '\n') {
+				return segmentStart + i + 1;
+			}
+		}
+		return segmentStart + segment.limit();
+	}
+
+	private static ByteBuffer[] range(final ByteBuffer[] segments, final long[] starts, final long from, final long to) {
+		final List<ByteBuffer> range = new ArrayList<>();
+		for (int i = 0; i < segments.length; i++) {
+			if (starts[i + 1] > from && starts[i] < to) {
+				range.add(slice(segments[i], (int) (Math.max(from, starts[i]) - starts[i]), (int) (Math.min(to, starts[i + 1]) - starts[i])));
+			}
+		}
+		return range.toArray(NO_SEGMENTS);
+	}
+
+	private static ByteBuffer slice(final ByteBuffer buffer, final int from, final int to) {
+		final ByteBuffer slice = buffer.duplicate();
+		slice.position(from).limit(to);
+		return slice.slice();
+	}
+
+	/**
+	 * Reads the lines one at a time, by scanning the bytes for the next line end. Splits on a line boundary near the
+	 * middle of the remaining bytes.
+	 */
+	private static final class LineSpliterator<R> implements Spliterator<Œ<R>> {
+		private final _ƒ<Line, R> parser;
+		private ByteBuffer[] segments;
+		private int segment;
+		private int position;
+		private IOException failure;
+
+		LineSpliterator(final ByteBuffer[] segments, final _ƒ<Line, R> parser, final IOException failure) {
+			this.segments = segments;
+			this.parser = parser;
+			this.failure = failure;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super Œ<R>> action) {
+			if (failure != null) {
+				final IOException e = failure;
+				failure = null;
+				action.accept(Œ.failure(e));
+				return true;
+			}
+
+			for (; segment < segments.length; segment++, position = 0) {
+				final ByteBuffer buffer = segments[segment];
+				final int limit = buffer.limit();
+				if (position < limit) {
+					int end = position;
+					while (end < limit && buffer.get(end) != '\n') {
+						end++;
+					}
+					final int start = position;
+					position = end + 1;
+
+					final int lineEnd = end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+					final var line = new Line(buffer, start, lineEnd - start);
+					action.accept(Œ.doTry(() -> parser.apply(line)));
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Spliterator<Œ<R>> trySplit() {
+			if (failure != null || estimateSize() < MIN_SPLIT) {
+				return null;
+			}
+
+			final ByteBuffer[] remaining = new ByteBuffer[segments.length - segment];
+			final int limit = segments[segment].limit();
+			remaining[0] = slice(segments[segment], Math.min(position, limit), limit);
+			System.arraycopy(segments, segment + 1, remaining, 1, remaining.length - 1);
+
+			final ByteBuffer[][] halves = divide(remaining, 2);
+			if (halves.length < 2) {
+				return null;
+			}
+
+			segments = halves[1];
+			segment = 0;
+			position = 0;
+			return new LineSpliterator<>(halves[0], parser, null);
+		}
+
+		/**
+		 * Returns the number of remaining bytes, as an upper bound of the number of remaining lines.
+		 */
+		@Override
+		public long estimateSize() {
+			long size = 0;
+			for (int i = segment; i < segments.length; i++) {
+				size += segments[i].limit();
+			}
+			return size - (segment < segments.length ? Math.min(position, segments[segment].limit()) : 0);
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL | IMMUTABLE;
+		}
+	}
+}
@@ -0,0 +1,387 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.₵;
+import io.github.jevanlingen.luwak.function.ℙ;
+
+/**
+ * Fork-join tasks behind the parallel operations of {@link Do}.
+ *
+ * <p>All tasks work on an array snapshot of the source, so a {@code Set} or {@code LinkedList} splits as cheaply as
+ * an {@code ArrayList}: in constant time, into exact halves. A range is split until it reaches the leaf size, which
+ * is derived from the input size and the parallelism of the pool (four leaves per worker, like parallel streams), or
+ * until enough work is queued already to keep the idle workers busy, whichever comes first.
+ */
+final class Parallel {
+	/**
+	 * The number of queued, unstolen tasks above which a task stops splitting and runs its range itself.
+	 */
+	private static final int SURPLUS = 3;
+
+	/**
+	 * The input size below which the sequential operation runs instead. Handing a few cheap elements to the workers
+	 * costs more than processing them on the calling thread.
+	 */
+	private static final int SEQUENTIAL_THRESHOLD = 1 << 10;
+
+	/**
+	 * Marks that no element has been found (yet).
+	 */
+	private static final int NOT_FOUND = -1;
+
+	private Parallel() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Returns whether an input of the given size is worth running in parallel on the given pool: the pool must have
+	 * more than one worker and the input must not fall below the sequential threshold.
+	 */
+	static boolean worthSplitting(final int size, final ForkJoinPool pool) {
+		return size >= SEQUENTIAL_THRESHOLD && pool.getParallelism() > 1;
+	}
+
+	/**
+	 * Returns an array with the result of applying the mapper to each element, in order.
+	 */
+	@SuppressWarnings("unchecked")
+	static Object[] map(final Object[] source, final ƒ<?, ?> mapper, final ForkJoinPool pool) {
+		final Object[] target = new Object[source.length];
+		pool.invoke(new MapTask((ƒ<Object, Object>) mapper, source, target, 0, source.length, leafSize(source.length, pool)));
+		return target;
+	}
+
+	/**
+	 * Performs the action for each element, in no particular order.
+	 */
+	@SuppressWarnings("unchecked")
+	static void forEach(final Object[] source, final ₵<?> action, final ForkJoinPool pool) {
+		pool.invoke(new ForEachTask((₵<Object>) action, source, 0, source.length, leafSize(source.length, pool)));
+	}
+
+	/**
+	 * Returns the number of elements matching the predicate, these are moved to the front of the source array
+	 * in order. The source array must be a private copy.
+	 */
+	@SuppressWarnings("unchecked")
+	static int filter(final Object[] source, final ℙ<?> predicate, final ForkJoinPool pool) {
+		final boolean[] keep = new boolean[source.length];
+		pool.invoke(new FilterTask((ℙ<Object>) predicate, source, keep, 0, source.length, leafSize(source.length, pool)));
+
+		int count = 0;
+		for (int i = 0; i < source.length; i++) {
+			if (keep[i]) {
+				source[count++] = source[i];
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the index of some element matching the predicate, or {@code -1} if there is none. Once a match
+	 * is found, the remaining tasks stop testing elements and no further tasks are forked.
+	 */
+	@SuppressWarnings("unchecked")
+	static int findAny(final Object[] source, final ℙ<?> predicate, final ForkJoinPool pool) {
+		final var found = new AtomicInteger(NOT_FOUND);
+		pool.invoke(new FindTask((ℙ<Object>) predicate, source, found, 0, source.length, leafSize(source.length, pool)));
+		return found.get();
+	}
+
+	/**
+	 * Returns a map from each key to an {@link Immutables.Buffer} of its elements, in order. Every leaf groups its
+	 * range into a map of its own, the map of the right half is merged into the one of the left half on join.
+	 */
+	@SuppressWarnings("unchecked")
+	static HashMap<Object, Object> groupBy(final Object[] source, final ƒ<?, ?> classifier, final ForkJoinPool pool) {
+		final var keys = (ƒ<Object, Object>) classifier;
+		return fold(source, new Folder<HashMap<Object, Object>>() {
+			@Override
+			public HashMap<Object, Object> leaf(final Object[] source, final int from, final int to) {
+				final HashMap<Object, Object> groups = new HashMap<>();
+				for (int i = from; i < to; i++) {
+					((Immutables.Buffer) groups.computeIfAbsent(keys.apply(source[i]), k -> new Immutables.Buffer())).add(source[i]);
+				}
+				return groups;
+			}
+
+			@Override
+			public HashMap<Object, Object> combine(final HashMap<Object, Object> left, final HashMap<Object, Object> right) {
+				for (Map.Entry<Object, Object> entry : right.entrySet()) {
+					left.merge(entry.getKey(), entry.getValue(), (l, r) -> ((Immutables.Buffer) l).addAll((Immutables.Buffer) r));
+				}
+				return left;
+			}
+		}, pool);
+	}
+
+	/**
+	 * Folds the source with the given folder: every leaf folds its range into an accumulator of its own, which is
+	 * combined with the accumulator of its neighbour on join, left before right. No accumulator is ever shared
+	 * between threads, so no locking is needed.
+	 */
+	static <A> A fold(final Object[] source, final Folder<A> folder, final ForkJoinPool pool) {
+		return pool.invoke(new FoldTask<>(folder, source, 0, source.length, leafSize(source.length, pool)));
+	}
+
+	/**
+	 * Sorts both arrays by the keys, stable, like {@link Sorting#sort(Object[], Object[])}. The halves of a range are
+	 * sorted in parallel and merged when both are done.
+	 */
+	static void sort(final Object[] keys, final Object[] elements, final ForkJoinPool pool) {
+		pool.invoke(new SortTask(keys.clone(), elements.clone(), keys, elements, 0, keys.length, leafSize(keys.length, pool)));
+	}
+
+	private static int leafSize(final int size, final ForkJoinPool pool) {
+		return Math.max(1, size / (pool.getParallelism() << 2));
+	}
+
+	/**
+	 * Base task over the range {@code [from, to)} that halves itself while it is worth it.
+	 */
+	private abstract static class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		final int from;
+		final int to;
+		final int leafSize;
+
+		RangeTask(final int from, final int to, final int leafSize) {
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected final void compute() {
+			if (canSkip()) {
+				return;
+			}
+			if (to - from > leafSize && getSurplusQueuedTaskCount() <= SURPLUS) {
+				final int mid = (from + to) >>> 1;
+				invokeAll(split(from, mid), split(mid, to));
+			}
+			else {
+				leaf();
+			}
+		}
+
+		/**
+		 * Returns whether the remaining work can be skipped, checked before splitting.
+		 */
+		boolean canSkip() {
+			return false;
+		}
+
+		abstract RangeTask split(int from, int to);
+
+		abstract void leaf();
+	}
+
+	private static final class MapTask extends RangeTask {
+		private static final long serialVersionUID = 1L;
+
+		private final ƒ<Object, Object> mapper;
+		private final Object[] source;
+		private final Object[] target;
+
+		MapTask(final ƒ<Object, Object> mapper, final Object[] source, final Object[] target, final int from, final int to, final int leafSize) {
+			super(from, to, leafSize);
+			this.mapper = mapper;
+			this.source = source;
+			this.target = target;
+		}
+
+		@Override
+		RangeTask split(final int from, final int to) {
+			return new MapTask(mapper, source, target, from, to, leafSize);
+		}
+
+		@Override
+		void leaf() {
+			for (int i = from; i < to; i++) {
+				target[i] = mapper.apply(source[i]);
+			}
+		}
+	}
+
+	private static final class ForEachTask extends RangeTask {
+		private static final long serialVersionUID = 1L;
+
+		private final ₵<Object> action;
+		private final Object[] source;
+
+		ForEachTask(final ₵<Object> action, final Object[] source, final int from, final int to, final int leafSize) {
+			super(from, to, leafSize);
+			this.action = action;
+			this.source = source;
+		}
+
+		@Override
+		RangeTask split(final int from, final int to) {
+			return new ForEachTask(action, source, from, to, leafSize);
+		}
+
+		@Override
+		void leaf() {
+			for (int i = from; i < to; i++) {
+				action.accept(source[i]);
+			}
+		}
+	}
+
+	private static final class FilterTask extends RangeTask {
+		private static final long serialVersionUID = 1L;
+
+		private final ℙ<Object> predicate;
+		private final Object[] source;
+		private final boolean[] keep;
+
+		FilterTask(final ℙ<Object> predicate, final Object[] source, final boolean[] keep, final int from, final int to, final int leafSize) {
+			super(from, to, leafSize);
+			this.predicate = predicate;
+			this.source = source;
+			this.keep = keep;
+		}
+
+		@Override
+		RangeTask split(final int from, final int to) {
+			return new FilterTask(predicate, source, keep, from, to, leafSize);
+		}
+
+		@Override
+		void leaf() {
+			for (int i = from; i < to; i++) {
+				keep[i] = predicate.test(source[i]);
+			}
+		}
+	}
+
+	private static final class FindTask extends RangeTask {
+		private static final long serialVersionUID = 1L;
+
+		private final ℙ<Object> predicate;
+		private final Object[] source;
+		private final AtomicInteger found;
+
+		FindTask(final ℙ<Object> predicate, final Object[] source, final AtomicInteger found, final int from, final int to, final int leafSize) {
+			super(from, to, leafSize);
+			this.predicate = predicate;
+			this.source = source;
+			this.found = found;
+		}
+
+		@Override
+		boolean canSkip() {
+			return found.get() != NOT_FOUND;
+		}
+
+		@Override
+		RangeTask split(final int from, final int to) {
+			return new FindTask(predicate, source, found, from, to, leafSize);
+		}
+
+		@Override
+		void leaf() {
+			for (int i = from; i < to && found.get() == NOT_FOUND; i++) {
+				if (predicate.test(source[i])) {
+					found.compareAndSet(NOT_FOUND, i);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Folds a range into an accumulator, and combines the accumulators of two adjacent ranges.
+	 *
+	 * @param <A> the type of the accumulator
+	 */
+	interface Folder<A> {
+		/**
+		 * Returns the accumulator of the non-empty range {@code [from, to)}.
+		 */
+		A leaf(Object[] source, int from, int to);
+
+		/**
+		 * Returns the accumulator of the left range followed by the right range, either input may be reused.
+		 */
+		A combine(A left, A right);
+	}
+
+	private static final class FoldTask<A> extends RecursiveTask<A> {
+		private static final long serialVersionUID = 1L;
+
+		private final Folder<A> folder;
+		private final Object[] source;
+		private final int from;
+		private final int to;
+		private final int leafSize;
+
+		FoldTask(final Folder<A> folder, final Object[] source, final int from, final int to, final int leafSize) {
+			this.folder = folder;
+			this.source = source;
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected A compute() {
+			if (to - from > leafSize && getSurplusQueuedTaskCount() <= SURPLUS) {
+				final int mid = (from + to) >>> 1;
+				final var right = new FoldTask<>(folder, source, mid, to, leafSize);
+				right.fork();
+				final A left = new FoldTask<>(folder, source, from, mid, leafSize).compute();
+				return folder.combine(left, right.join());
+			}
+			return folder.leaf(source, from, to);
+		}
+	}
+
+	/**
+	 * Sorts a range into the target arrays, with the source arrays as scratch space, see
+	 * {@link Sorting#mergeSort(Object[], Object[], Object[], Object[], int, int)}.
+	 */
+	private static final class SortTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Object[] sourceKeys;
+		private final Object[] sourceElements;
+		private final Object[] targetKeys;
+		private final Object[] targetElements;
+		private final int from;
+		private final int to;
+		private final int leafSize;
+
+		SortTask(final Object[] sourceKeys, final Object[] sourceElements, final Object[] targetKeys, final Object[] targetElements, final int from, final int to, final int leafSize) {
+			this.sourceKeys = sourceKeys;
+			this.sourceElements = sourceElements;
+			this.targetKeys = targetKeys;
+			this.targetElements = targetElements;
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > leafSize && getSurplusQueuedTaskCount() <= SURPLUS) {
+				final int mid = (from + to) >>> 1;
+				invokeAll(new SortTask(targetKeys, targetElements, sourceKeys, sourceElements, from, mid, leafSize),
+						new SortTask(targetKeys, targetElements, sourceKeys, sourceElements, mid, to, leafSize));
+				Sorting.merge(sourceKeys, sourceElements, targetKeys, targetElements, from, mid, to);
+			}
+			else {
+				Sorting.mergeSort(sourceKeys, sourceElements, targetKeys, targetElements, from, to);
+			}
+		}
+	}
+}
@@ -0,0 +1,476 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.ℙ;
+
+/**
+ * An immutable, persistent set with structural sharing. Adding an element with {@link #plus(Object)} or removing one
+ * with {@link #minus(Object)} returns a new set in {@code O(log32 n)}, which shares all untouched parts with the
+ * original, instead of copying the full set.
+ *
+ * <p>The elements live in a hash array mapped trie: every node covers five bits of the hash code and holds a bitmap
+ * of the occupied slots plus an exactly sized array, elements first and sub-nodes last, so there are no empty slots
+ * and no entry objects. {@link Do#map(java.util.Set, ƒ)} and {@link Do#filter(java.util.Set, ℙ)} return a
+ * {@code PersistentSet} for a {@code PersistentSet} input. Like the other {@code Do} results it permits a
+ * {@code null} element.
+ *
+ * @param <E> the type of elements
+ */
+public final class PersistentSet<E> extends AbstractSet<E> {
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	private static final int HASH_BITS = 32;
+
+	private static final PersistentSet<?> EMPTY = new PersistentSet<>(BitmapNode.EMPTY, 0);
+
+	private final Node root;
+	private final int size;
+
+	private PersistentSet(final Node root, final int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Returns the empty set.
+	 *
+	 * @param <E> the type of elements
+	 * @return the empty set
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentSet<E> empty() {
+		return (PersistentSet<E>) EMPTY;
+	}
+
+	/**
+	 * Returns a set of the given elements, duplicates are dropped.
+	 *
+	 * @param elements the elements
+	 * @param <E>      the type of elements
+	 * @return a set of the elements
+	 * @throws NullPointerException if the array is {@code null}
+	 */
+	@SafeVarargs
+	public static <E> PersistentSet<E> of(final E... elements) {
+		PersistentSet<E> set = empty();
+		for (final E element : elements) {
+			set = set.plus(element);
+		}
+		return set;
+	}
+
+	/**
+	 * Returns a set of the elements of the given collection, duplicates are dropped. A {@code PersistentSet} is
+	 * returned as is.
+	 *
+	 * @param collection the collection
+	 * @param <E>        the type of elements
+	 * @return a set of the elements
+	 * @throws NullPointerException if the collection is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentSet<E> copyOf(final Collection<? extends E> collection) {
+		if (collection instanceof PersistentSet) {
+			return (PersistentSet<E>) collection;
+		}
+		final Object[] elements = collection.toArray();
+		return of(elements, elements.length);
+	}
+
+	/**
+	 * Builds a set of the first {@code size} elements of the array.
+	 */
+	static <E> PersistentSet<E> of(final Object[] elements, final int size) {
+		PersistentSet<E> set = empty();
+		for (int i = 0; i < size; i++) {
+			@SuppressWarnings("unchecked") final E element = (E) elements[i];
+			set = set.plus(element);
+		}
+		return set;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return root.contains(o, hash(o), 0);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a set with the given element added, or this set if it contains the element already.
+	 *
+	 * @param element the element to add, may be {@code null}
+	 * @return the new set
+	 */
+	public PersistentSet<E> plus(final E element) {
+		final Node newRoot = root.insert(element, hash(element), 0);
+		return newRoot == root ? this : new PersistentSet<>(newRoot, size + 1);
+	}
+
+	/**
+	 * Returns a set with the given element removed, or this set if it does not contain the element.
+	 *
+	 * @param element the element to remove, may be {@code null}
+	 * @return the new set
+	 */
+	public PersistentSet<E> minus(final Object element) {
+		final Node newRoot = root.remove(element, hash(element), 0);
+		return newRoot == root ? this : new PersistentSet<>(newRoot, size - 1);
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<>() {
+			private final Node[] nodes = new Node[HASH_BITS / BITS + 2];
+			private final int[] positions = new int[nodes.length];
+			private int depth;
+			private int remaining = size;
+
+			{
+				nodes[0] = root;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (remaining == 0) {
+					throw new NoSuchElementException();
+				}
+
+				while (true) {
+					final Node node = nodes[depth];
+					final int position = positions[depth];
+					if (position < node.elementCount()) {
+						positions[depth]++;
+						remaining--;
+						return (E) node.element(position);
+					}
+					if (position - node.elementCount() < node.nodeCount()) {
+						positions[depth]++;
+						nodes[++depth] = node.node(position - node.elementCount());
+						positions[depth] = 0;
+					}
+					else {
+						depth--;
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns the result of applying the mapper to each element as a set.
+	 */
+	<R> PersistentSet<R> map(final ƒ<? super E, ? extends R> mapper) {
+		PersistentSet<R> set = empty();
+		for (E element : this) {
+			set = set.plus(mapper.apply(element));
+		}
+		return set;
+	}
+
+	/**
+	 * Returns the elements that match the predicate, or this set if all elements match. When at most half of the
+	 * elements are rejected, they are removed one by one, so the result shares the untouched nodes with this set.
+	 */
+	PersistentSet<E> filter(final ℙ<? super E> predicate) {
+		final Object[] kept = new Object[size];
+		final Object[] rejected = new Object[size];
+		int keptCount = 0;
+		int rejectedCount = 0;
+
+		for (E element : this) {
+			if (predicate.test(element)) {
+				kept[keptCount++] = element;
+			}
+			else {
+				rejected[rejectedCount++] = element;
+			}
+		}
+
+		if (rejectedCount > keptCount) {
+			return of(kept, keptCount);
+		}
+
+		PersistentSet<E> set = this;
+		for (int i = 0; i < rejectedCount; i++) {
+			set = set.minus(rejected[i]);
+		}
+		return set;
+	}
+
+	private static int hash(final Object o) {
+		return o == null ? 0 : o.hashCode();
+	}
+
+	/**
+	 * A node of the trie, either a bitmap indexed node or, once all hash bits are used, a collision node.
+	 */
+	private abstract static class Node {
+		abstract boolean contains(Object element, int hash, int shift);
+
+		/**
+		 * Returns a node with the element added, or this node if it contains the element already.
+		 */
+		abstract Node insert(Object element, int hash, int shift);
+
+		/**
+		 * Returns a node without the element, or this node if it does not contain the element.
+		 */
+		abstract Node remove(Object element, int hash, int shift);
+
+		abstract int elementCount();
+
+		abstract Object element(int index);
+
+		abstract int nodeCount();
+
+		abstract Node node(int index);
+	}
+
+	private static final class BitmapNode extends Node {
+		static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+		private final int elementMap;
+		private final int nodeMap;
+		private final Object[] content;
+
+		BitmapNode(final int elementMap, final int nodeMap, final Object[] content) {
+			this.elementMap = elementMap;
+			this.nodeMap = nodeMap;
+			this.content = content;
+		}
+
+		@Override
+		boolean contains(final Object element, final int hash, final int shift) {
+			final int bit = bit(hash, shift);
+			if ((elementMap & bit) != 0) {
+				return Objects.equals(content[index(elementMap, bit)], element);
+			}
+			if ((nodeMap & bit) != 0) {
+				return nodeAt(bit).contains(element, hash, shift + BITS);
+			}
+			return false;
+		}
+
+		@Override
+		Node insert(final Object element, final int hash, final int shift) {
+			final int bit = bit(hash, shift);
+
+			if ((elementMap & bit) != 0) {
+				final int index = index(elementMap, bit);
+				final Object existing = content[index];
+				if (Objects.equals(existing, element)) {
+					return this;
+				}
+				final Node merged = merge(existing, hash(existing), element, hash, shift + BITS);
+				return elementToNode(bit, index, merged);
+			}
+
+			if ((nodeMap & bit) != 0) {
+				final Node child = nodeAt(bit);
+				final Node newChild = child.insert(element, hash, shift + BITS);
+				return newChild == child ? this : withNode(bit, newChild);
+			}
+
+			final int index = index(elementMap, bit);
+			final Object[] newContent = new Object[content.length + 1];
+			System.arraycopy(content, 0, newContent, 0, index);
+			newContent[index] = element;
+			System.arraycopy(content, index, newContent, index + 1, content.length - index);
+			return new BitmapNode(elementMap | bit, nodeMap, newContent);
+		}
+
+		@Override
+		Node remove(final Object element, final int hash, final int shift) {
+			final int bit = bit(hash, shift);
+
+			if ((elementMap & bit) != 0) {
+				final int index = index(elementMap, bit);
+				if (!Objects.equals(content[index], element)) {
+					return this;
+				}
+				final Object[] newContent = new Object[content.length - 1];
+				System.arraycopy(content, 0, newContent, 0, index);
+				System.arraycopy(content, index + 1, newContent, index, content.length - index - 1);
+				return new BitmapNode(elementMap ^ bit, nodeMap, newContent);
+			}
+
+			if ((nodeMap & bit) != 0) {
+				final Node child = nodeAt(bit);
+				final Node newChild = child.remove(element, hash, shift + BITS);
+				if (newChild == child) {
+					return this;
+				}
+				// a child left with a single element is inlined, so the trie stays as shallow as possible
+				return newChild.elementCount() == 1 && newChild.nodeCount() == 0
+						? nodeToElement(bit, newChild.element(0))
+						: withNode(bit, newChild);
+			}
+
+			return this;
+		}
+
+		@Override
+		int elementCount() {
+			return Integer.bitCount(elementMap);
+		}
+
+		@Override
+		Object element(final int index) {
+			return content[index];
+		}
+
+		@Override
+		int nodeCount() {
+			return Integer.bitCount(nodeMap);
+		}
+
+		@Override
+		Node node(final int index) {
+			return (Node) content[content.length - 1 - index];
+		}
+
+		private Node nodeAt(final int bit) {
+			return node(index(nodeMap, bit));
+		}
+
+		private BitmapNode withNode(final int bit, final Node node) {
+			final Object[] newContent = content.clone();
+			newContent[content.length - 1 - index(nodeMap, bit)] = node;
+			return new BitmapNode(elementMap, nodeMap, newContent);
+		}
+
+		private BitmapNode elementToNode(final int bit, final int elementIndex, final Node node) {
+			final int nodeIndex = content.length - 1 - index(nodeMap, bit);
+			final Object[] newContent = new Object[content.length];
+			// drop the element, shifting everything up to the new node's slot one to the left
+			System.arraycopy(content, 0, newContent, 0, elementIndex);
+			System.arraycopy(content, elementIndex + 1, newContent, elementIndex, nodeIndex - elementIndex);
+			newContent[nodeIndex] = node;
+			System.arraycopy(content, nodeIndex + 1, newContent, nodeIndex + 1, content.length - nodeIndex - 1);
+			return new BitmapNode(elementMap ^ bit, nodeMap | bit, newContent);
+		}
+
+		private BitmapNode nodeToElement(final int bit, final Object element) {
+			final int nodeIndex = content.length - 1 - index(nodeMap, bit);
+			final int elementIndex = index(elementMap, bit);
+			final Object[] newContent = new Object[content.length];
+			// drop the node, shifting everything from the new element's slot one to the right
+			System.arraycopy(content, 0, newContent, 0, elementIndex);
+			newContent[elementIndex] = element;
+			System.arraycopy(content, elementIndex, newContent, elementIndex + 1, nodeIndex - elementIndex);
+			System.arraycopy(content, nodeIndex + 1, newContent, nodeIndex + 1, content.length - nodeIndex - 1);
+			return new BitmapNode(elementMap | bit, nodeMap ^ bit, newContent);
+		}
+
+		private static Node merge(final Object first, final int firstHash, final Object second, final int secondHash, final int shift) {
+			if (shift >= HASH_BITS) {
+				return new CollisionNode(firstHash, new Object[] { first, second });
+			}
+
+			final int firstBit = bit(firstHash, shift);
+			final int secondBit = bit(secondHash, shift);
+			if (firstBit != secondBit) {
+				final Object[] content = Integer.compareUnsigned(firstBit, secondBit) < 0
+						? new Object[] { first, second }
+						: new Object[] { second, first };
+				return new BitmapNode(firstBit | secondBit, 0, content);
+			}
+
+			return new BitmapNode(0, firstBit, new Object[] { merge(first, firstHash, second, secondHash, shift + BITS) });
+		}
+
+		private static int bit(final int hash, final int shift) {
+			return 1 << ((hash >>> shift) & MASK);
+		}
+
+		private static int index(final int map, final int bit) {
+			return Integer.bitCount(map & (bit - 1));
+		}
+	}
+
+	/**
+	 * Holds the elements whose hash codes are fully equal.
+	 */
+	private static final class CollisionNode extends Node {
+		private final int hash;
+		private final Object[] elements;
+
+		CollisionNode(final int hash, final Object[] elements) {
+			this.hash = hash;
+			this.elements = elements;
+		}
+
+		@Override
+		boolean contains(final Object element, final int hash, final int shift) {
+			return this.hash == hash && indexOf(element) >= 0;
+		}
+
+		@Override
+		Node insert(final Object element, final int hash, final int shift) {
+			if (indexOf(element) >= 0) {
+				return this;
+			}
+			final Object[] newElements = Arrays.copyOf(elements, elements.length + 1);
+			newElements[elements.length] = element;
+			return new CollisionNode(hash, newElements);
+		}
+
+		@Override
+		Node remove(final Object element, final int hash, final int shift) {
+			final int index = indexOf(element);
+			if (index < 0) {
+				return this;
+			}
+			final Object[] newElements = new Object[elements.length - 1];
+			System.arraycopy(elements, 0, newElements, 0, index);
+			System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+			return new CollisionNode(hash, newElements);
+		}
+
+		@Override
+		int elementCount() {
+			return elements.length;
+		}
+
+		@Override
+		Object element(final int index) {
+			return elements[index];
+		}
+
+		@Override
+		int nodeCount() {
+			return 0;
+		}
+
+		@Override
+		Node node(final int index) {
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		private int indexOf(final Object element) {
+			for (int i = 0; i < elements.length; i++) {
+				if (Objects.equals(elements[i], element)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,325 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.ℙ;
+
+/**
+ * An immutable, persistent list with structural sharing. Updating an element with {@link #with(int, Object)} or adding
+ * one with {@link #plus(Object)} returns a new vector in {@code O(log32 n)}, which shares all untouched parts with the
+ * original, instead of copying the full list.
+ *
+ * <p>The elements live in a trie of 32-element arrays, the last (up to) 32 elements are kept aside in a tail, so
+ * appending mostly copies the tail only. {@link Do#map(java.util.List, ƒ)} and {@link Do#filter(java.util.List, ℙ)}
+ * return a {@code PersistentVector} for a {@code PersistentVector} input. Like the other {@code Do} results it
+ * permits {@code null} elements.
+ *
+ * @param <E> the type of elements
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+
+	private static final Object[] EMPTY_NODE = new Object[WIDTH];
+	private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+	private final int size;
+	private final int shift;
+	private final Object[] root;
+	private final Object[] tail;
+
+	private PersistentVector(final int size, final int shift, final Object[] root, final Object[] tail) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	/**
+	 * Returns the empty vector.
+	 *
+	 * @param <E> the type of elements
+	 * @return the empty vector
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentVector<E> empty() {
+		return (PersistentVector<E>) EMPTY;
+	}
+
+	/**
+	 * Returns a vector of the given elements, in order.
+	 *
+	 * @param elements the elements
+	 * @param <E>      the type of elements
+	 * @return a vector of the elements
+	 * @throws NullPointerException if the array is {@code null}
+	 */
+	@SafeVarargs
+	public static <E> PersistentVector<E> of(final E... elements) {
+		return of(Arrays.copyOf(elements, elements.length, Object[].class), elements.length);
+	}
+
+	/**
+	 * Returns a vector of the elements of the given collection, in iteration order. A {@code PersistentVector} is
+	 * returned as is.
+	 *
+	 * @param collection the collection
+	 * @param <E>        the type of elements
+	 * @return a vector of the elements
+	 * @throws NullPointerException if the collection is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentVector<E> copyOf(final Collection<? extends E> collection) {
+		if (collection instanceof PersistentVector) {
+			return (PersistentVector<E>) collection;
+		}
+		final Object[] elements = collection.toArray();
+		return of(elements, elements.length);
+	}
+
+	/**
+	 * Builds a vector of the first {@code size} elements of the array bottom up, in {@code O(n)}.
+	 */
+	static <E> PersistentVector<E> of(final Object[] elements, final int size) {
+		if (size == 0) {
+			return empty();
+		}
+
+		final int tailOffset = tailOffset(size);
+		// Copied as Object[], an array of a subtype would reject other elements stored by plus or with
+		final Object[] tail = Arrays.copyOfRange(elements, tailOffset, size, Object[].class);
+
+		Object[] level = new Object[tailOffset >>> BITS];
+		for (int i = 0; i < level.length; i++) {
+			level[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS, Object[].class);
+		}
+
+		int shift = BITS;
+		while (level.length > WIDTH) {
+			final Object[] parents = new Object[(level.length + MASK) >>> BITS];
+			for (int i = 0; i < parents.length; i++) {
+				final Object[] node = new Object[WIDTH];
+				System.arraycopy(level, i << BITS, node, 0, Math.min(WIDTH, level.length - (i << BITS)));
+				parents[i] = node;
+			}
+			level = parents;
+			shift += BITS;
+		}
+
+		return new PersistentVector<>(size, shift, level.length == 0 ? EMPTY_NODE : Arrays.copyOf(level, WIDTH), tail);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(final int index) {
+		Objects.checkIndex(index, size);
+		return (E) leafFor(index)[index & MASK];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a vector with the given element appended, sharing all but the changed path with this vector.
+	 *
+	 * @param element the element to append, may be {@code null}
+	 * @return the new vector
+	 */
+	public PersistentVector<E> plus(final E element) {
+		if (size - tailOffset(size) < WIDTH) {
+			final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+			newTail[tail.length] = element;
+			return new PersistentVector<>(size + 1, shift, root, newTail);
+		}
+
+		final Object[] newRoot;
+		int newShift = shift;
+		if ((size >>> BITS) > (1 << shift)) {
+			newRoot = new Object[WIDTH];
+			newRoot[0] = root;
+			newRoot[1] = newPath(shift, tail);
+			newShift += BITS;
+		}
+		else {
+			newRoot = pushTail(shift, root, tail);
+		}
+
+		return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { element });
+	}
+
+	/**
+	 * Returns a vector with the element at the given position replaced, sharing all but the changed path with this
+	 * vector.
+	 *
+	 * @param index   the index of the element to replace
+	 * @param element the new element, may be {@code null}
+	 * @return the new vector
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public PersistentVector<E> with(final int index, final E element) {
+		Objects.checkIndex(index, size);
+
+		if (index >= tailOffset(size)) {
+			final Object[] newTail = tail.clone();
+			newTail[index & MASK] = element;
+			return new PersistentVector<>(size, shift, root, newTail);
+		}
+
+		return new PersistentVector<>(size, shift, assoc(shift, root, index, element), tail);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(final Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		final int tailOffset = tailOffset(size);
+		for (int i = 0; i < tailOffset; i += WIDTH) {
+			for (Object element : leafFor(i)) {
+				action.accept((E) element);
+			}
+		}
+		for (Object element : tail) {
+			action.accept((E) element);
+		}
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<>() {
+			private int index;
+			private Object[] leaf = size == 0 ? tail : leafFor(0);
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (index >= size) {
+					throw new NoSuchElementException();
+				}
+				if (index > 0 && (index & MASK) == 0) {
+					leaf = leafFor(index);
+				}
+				return (E) leaf[index++ & MASK];
+			}
+		};
+	}
+
+	/**
+	 * Returns the result of applying the mapper to each element, in order, as a vector of the same shape.
+	 */
+	<R> PersistentVector<R> map(final ƒ<? super E, ? extends R> mapper) {
+		if (size == 0) {
+			return empty();
+		}
+
+		final Object[] newRoot = root == EMPTY_NODE ? EMPTY_NODE : mapNode(shift, root, mapper);
+		final Object[] newTail = new Object[tail.length];
+		for (int i = 0; i < tail.length; i++) {
+			newTail[i] = apply(mapper, tail[i]);
+		}
+		return new PersistentVector<>(size, shift, newRoot, newTail);
+	}
+
+	/**
+	 * Returns the elements that match the predicate, in order, or this vector if all elements match.
+	 */
+	@SuppressWarnings("unchecked")
+	PersistentVector<E> filter(final ℙ<? super E> predicate) {
+		final Object[] kept = new Object[size];
+		int count = 0;
+
+		for (int i = 0; i < size; i += WIDTH) {
+			for (Object element : leafFor(i)) {
+				if (predicate.test((E) element)) {
+					kept[count++] = element;
+				}
+			}
+		}
+
+		return count == size ? this : of(kept, count);
+	}
+
+	private Object[] leafFor(final int index) {
+		if (index >= tailOffset(size)) {
+			return tail;
+		}
+		Object[] node = root;
+		for (int level = shift; level > 0; level -= BITS) {
+			node = (Object[]) node[(index >>> level) & MASK];
+		}
+		return node;
+	}
+
+	private Object[] pushTail(final int level, final Object[] parent, final Object[] tailNode) {
+		final int index = ((size - 1) >>> level) & MASK;
+		final Object[] node = parent.clone();
+
+		if (level == BITS) {
+			node[index] = tailNode;
+		}
+		else {
+			final Object[] child = (Object[]) parent[index];
+			node[index] = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+		}
+
+		return node;
+	}
+
+	private static Object[] newPath(final int level, final Object[] node) {
+		if (level == 0) {
+			return node;
+		}
+		final Object[] path = new Object[WIDTH];
+		path[0] = newPath(level - BITS, node);
+		return path;
+	}
+
+	private static Object[] assoc(final int level, final Object[] node, final int index, final Object element) {
+		final Object[] newNode = node.clone();
+		if (level == 0) {
+			newNode[index & MASK] = element;
+		}
+		else {
+			final int child = (index >>> level) & MASK;
+			newNode[child] = assoc(level - BITS, (Object[]) node[child], index, element);
+		}
+		return newNode;
+	}
+
+	private static Object[] mapNode(final int level, final Object[] node, final ƒ<?, ?> mapper) {
+		final Object[] newNode = new Object[WIDTH];
+		for (int i = 0; i < WIDTH; i++) {
+			if (level == 0) {
+				newNode[i] = apply(mapper, node[i]);
+			}
+			else if (node[i] != null) {
+				newNode[i] = mapNode(level - BITS, (Object[]) node[i], mapper);
+			}
+		}
+		return newNode;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object apply(final ƒ<?, ?> mapper, final Object element) {
+		return ((ƒ<Object, Object>) mapper).apply(element);
+	}
+
+	private static int tailOffset(final int size) {
+		return size == 0 ? 0 : ((size - 1) >>> BITS) << BITS;
+	}
+}
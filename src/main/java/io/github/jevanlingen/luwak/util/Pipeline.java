@@ -0,0 +1,279 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.ℙ;
+import io.github.jevanlingen.luwak.wrapper.Ø;
+
+/**
+ * A fused {@link Do} pipeline over a collection, created by {@link Do#from(Collection)}. The {@code map},
+ * {@code filter} and {@code mapØ} stages are only recorded, a terminal operation pushes each element through
+ * all stages in a single loop. No intermediate collection is created, {@link #toList()} and {@link #toSet()}
+ * allocate the result only.
+ *
+ * <p>Example:</p>
+ * <pre>{@literal List<Integer> lengths = Do.from(names).map(String::trim).filter(s -> !s.isEmpty()).map(String::length).toList();
+ * }</pre>
+ *
+ * <p>A pipeline is immutable, every stage returns a new pipeline (a single node linked to its predecessor) and leaves
+ * the original untouched. As the source is
+ * only read by the terminal operations, it should not be modified in between.
+ *
+ * @param <T> the element type of the source
+ * @param <R> the element type of the pipeline
+ */
+public final class Pipeline<T, R> {
+	private static final byte MAP = 0;
+	private static final byte FILTER = 1;
+	private static final byte MAP_Ø = 2;
+
+	private final Collection<T> source;
+	private final Pipeline<T, ?> previous;
+	private final byte kind;
+	private final Object stage;
+
+	private Pipeline(final Collection<T> source, final Pipeline<T, ?> previous, final byte kind, final Object stage) {
+		this.source = source;
+		this.previous = previous;
+		this.kind = kind;
+		this.stage = stage;
+	}
+
+	static <T> Pipeline<T, T> of(final Collection<T> source) {
+		return new Pipeline<>(Objects.requireNonNull(source), null, MAP, null);
+	}
+
+	/**
+	 * Records a mapping stage, see {@link Do#map(List, ƒ)}.
+	 *
+	 * @param mapper a function to apply to each element
+	 * @param <U>    The element type of the new pipeline
+	 * @return a new pipeline with the mapping stage appended
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> Pipeline<T, U> map(final ƒ<? super R, ? extends U> mapper) {
+		return append(MAP, Objects.requireNonNull(mapper));
+	}
+
+	/**
+	 * Records a filtering stage, see {@link Do#filter(List, ℙ)}.
+	 *
+	 * @param predicate a predicate to apply to each element to determine if it should be included
+	 * @return a new pipeline with the filtering stage appended
+	 * @throws NullPointerException if the predicate is {@code null}
+	 */
+	public Pipeline<T, R> filter(final ℙ<? super R> predicate) {
+		return append(FILTER, Objects.requireNonNull(predicate));
+	}
+
+	/**
+	 * Records a {@code Ø}-bearing mapping stage, see {@link Do#mapØ(List, ƒ)}. Empty results are skipped.
+	 *
+	 * @param mapper a {@code Ø}-bearing function to apply to each element
+	 * @param <U>    The element type of the new pipeline
+	 * @return a new pipeline with the mapping stage appended
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> Pipeline<T, U> mapØ(final ƒ<? super R, ? extends Ø<? extends U>> mapper) {
+		return append(MAP_Ø, Objects.requireNonNull(mapper));
+	}
+
+	/**
+	 * Runs the pipeline and returns the resulting elements as an unmodifiable list, in source order.
+	 *
+	 * @return the new list
+	 * @throws NullPointerException if a {@code Ø}-bearing function returns a {@code null} result
+	 */
+	public List<R> toList() {
+		final var collector = new Collect(source.size());
+		push(collector);
+		return Immutables.list(collector.elements, collector.count);
+	}
+
+	/**
+	 * Runs the pipeline and returns the resulting elements as an unmodifiable set.
+	 *
+	 * @return the new set
+	 * @throws NullPointerException if a {@code Ø}-bearing function returns a {@code null} result
+	 */
+	public Set<R> toSet() {
+		final var collector = new Collect(source.size());
+		push(collector);
+		return Immutables.set(collector.elements, collector.count);
+	}
+
+	/**
+	 * Returns whether any resulting element matches the provided predicate, see {@link Do#anyMatch(List, ℙ)}.
+	 * The source is only read up to the first match.
+	 *
+	 * @param predicate a predicate to apply to the resulting elements
+	 * @return {@code true} if any resulting element matches the provided predicate, otherwise {@code false}
+	 * @throws NullPointerException if the predicate is {@code null}
+	 */
+	public boolean anyMatch(final ℙ<? super R> predicate) {
+		final var finder = new Find(predicate);
+		push(finder);
+		return finder.done;
+	}
+
+	/**
+	 * Returns an {@code Ø} describing some resulting element that matches the given predicate, or an empty
+	 * {@code Ø} if there is none, see {@link Do#findAny(List, ℙ)}. The source is only read up to the first match.
+	 *
+	 * @param predicate a predicate to apply to the resulting elements
+	 * @return an {@code Ø} describing some resulting element, or an empty {@code Ø} if there is none
+	 * @throws NullPointerException if the predicate is {@code null} or the matching element is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public Ø<R> findAny(final ℙ<? super R> predicate) {
+		final var finder = new Find(predicate);
+		push(finder);
+		return finder.done ? Ø.of((R) finder.found) : Ø.empty();
+	}
+
+	private <U> Pipeline<T, U> append(final byte kind, final Object stage) {
+		return new Pipeline<>(source, this, kind, stage);
+	}
+
+	/**
+	 * Pushes every source element through the stages into the given terminal sink, until the sink is done.
+	 */
+	private void push(final Sink terminal) {
+		Sink head = terminal;
+		for (Pipeline<T, ?> p = this; p.previous != null; p = p.previous) {
+			head = p.sink(head);
+		}
+
+		if (source instanceof List && source instanceof RandomAccess) {
+			final List<T> list = (List<T>) source;
+			for (int i = 0, size = list.size(); i < size && !terminal.done; i++) {
+				head.accept(list.get(i));
+			}
+		}
+		else {
+			for (T t : source) {
+				if (terminal.done) {
+					break;
+				}
+				head.accept(t);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Sink sink(final Sink downstream) {
+		switch (kind) {
+			case MAP:
+				return new MapSink((ƒ<Object, Object>) stage, downstream);
+			case FILTER:
+				return new FilterSink((ℙ<Object>) stage, downstream);
+			default:
+				return new MapØSink((ƒ<Object, Ø<Object>>) stage, downstream);
+		}
+	}
+
+	/**
+	 * Receives the elements of one stage. Every stage kind has its own class, so the JIT can inline the calls
+	 * from one stage into the next like it does for the sinks of a {@code java.util.stream} pipeline. A kind that
+	 * occurs twice makes a recursive call, which the JIT inlines only one level deep, from there on the stages are
+	 * called virtually. Running the stages in one flat loop instead was measured to be slower.
+	 */
+	private abstract static class Sink {
+		boolean done;
+
+		abstract void accept(Object element);
+	}
+
+	private static final class MapSink extends Sink {
+		private final ƒ<Object, Object> mapper;
+		private final Sink downstream;
+
+		MapSink(final ƒ<Object, Object> mapper, final Sink downstream) {
+			this.mapper = mapper;
+			this.downstream = downstream;
+		}
+
+		@Override
+		void accept(final Object element) {
+			downstream.accept(mapper.apply(element));
+		}
+	}
+
+	private static final class FilterSink extends Sink {
+		private final ℙ<Object> predicate;
+		private final Sink downstream;
+
+		FilterSink(final ℙ<Object> predicate, final Sink downstream) {
+			this.predicate = predicate;
+			this.downstream = downstream;
+		}
+
+		@Override
+		void accept(final Object element) {
+			if (predicate.test(element)) {
+				downstream.accept(element);
+			}
+		}
+	}
+
+	private static final class MapØSink extends Sink {
+		private final ƒ<Object, Ø<Object>> mapper;
+		private final Sink downstream;
+
+		MapØSink(final ƒ<Object, Ø<Object>> mapper, final Sink downstream) {
+			this.mapper = mapper;
+			this.downstream = downstream;
+		}
+
+		@Override
+		void accept(final Object element) {
+			final Ø<Object> result = Objects.requireNonNull(mapper.apply(element));
+			if (result.isPresent()) {
+				downstream.accept(result.orElseThrow());
+			}
+		}
+	}
+
+	/**
+	 * Collects the elements into an array sized for the source, which becomes the backing array of the result.
+	 */
+	private static final class Collect extends Sink {
+		private final Object[] elements;
+		private int count;
+
+		Collect(final int size) {
+			this.elements = new Object[size];
+		}
+
+		@Override
+		void accept(final Object element) {
+			elements[count++] = element;
+		}
+	}
+
+	/**
+	 * Holds the first element that matches the predicate, and is done once there is one.
+	 */
+	private static final class Find extends Sink {
+		private final ℙ<Object> predicate;
+		private Object found;
+
+		@SuppressWarnings("unchecked")
+		Find(final ℙ<?> predicate) {
+			this.predicate = (ℙ<Object>) Objects.requireNonNull(predicate);
+		}
+
+		@Override
+		void accept(final Object element) {
+			if (predicate.test(element)) {
+				found = element;
+				done = true;
+			}
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package io.github.jevanlingen.luwak.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The sorting behind {@link Do#sortBy} and {@link Do#topK}. The keys are computed once, into an array parallel to
+ * the elements, and are compared in their natural order. The elements move along with their keys, so neither a key
+ * is recomputed nor a key-element pair is allocated.
+ */
+final class Sorting {
+	/**
+	 * The length up to which a range is sorted by insertion instead of being merged.
+	 */
+	private static final int INSERTION = 16;
+
+	private Sorting() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Sorts both arrays by the keys, stable.
+	 */
+	static void sort(final Object[] keys, final Object[] elements) {
+		mergeSort(keys.clone(), elements.clone(), keys, elements, 0, keys.length);
+	}
+
+	/**
+	 * Sorts the range {@code [from, to)} of the target arrays by the keys, stable. On entry the source arrays hold
+	 * the same range, they are used as scratch space (the halves are sorted into the source and then merged back).
+	 */
+	static void mergeSort(final Object[] sourceKeys, final Object[] sourceElements, final Object[] targetKeys, final Object[] targetElements, final int from, final int to) {
+		if (to - from <= INSERTION) {
+			insertionSort(targetKeys, targetElements, from, to);
+			return;
+		}
+
+		final int mid = (from + to) >>> 1;
+		mergeSort(targetKeys, targetElements, sourceKeys, sourceElements, from, mid);
+		mergeSort(targetKeys, targetElements, sourceKeys, sourceElements, mid, to);
+		merge(sourceKeys, sourceElements, targetKeys, targetElements, from, mid, to);
+	}
+
+	/**
+	 * Merges the sorted ranges {@code [from, mid)} and {@code [mid, to)} of the source into the target, taking the
+	 * left element of equal keys first.
+	 */
+	static void merge(final Object[] sourceKeys, final Object[] sourceElements, final Object[] targetKeys, final Object[] targetElements, final int from, final int mid, final int to) {
+		if (compare(sourceKeys[mid - 1], sourceKeys[mid]) <= 0) {
+			System.arraycopy(sourceKeys, from, targetKeys, from, to - from);
+			System.arraycopy(sourceElements, from, targetElements, from, to - from);
+			return;
+		}
+
+		for (int i = from, left = from, right = mid; i < to; i++) {
+			if (right >= to || (left < mid && compare(sourceKeys[left], sourceKeys[right]) <= 0)) {
+				targetKeys[i] = sourceKeys[left];
+				targetElements[i] = sourceElements[left++];
+			}
+			else {
+				targetKeys[i] = sourceKeys[right];
+				targetElements[i] = sourceElements[right++];
+			}
+		}
+	}
+
+	private static void insertionSort(final Object[] keys, final Object[] elements, final int from, final int to) {
+		for (int i = from + 1; i < to; i++) {
+			final Object key = keys[i];
+			final Object element = elements[i];
+			int j = i - 1;
+			for (; j >= from && compare(keys[j], key) > 0; j--) {
+				keys[j + 1] = keys[j];
+				elements[j + 1] = elements[j];
+			}
+			keys[j + 1] = key;
+			elements[j + 1] = element;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static int compare(final Object key, final Object other) {
+		return ((Comparable<Object>) key).compareTo(other);
+	}
+
+	/**
+	 * Keeps the (at most) {@code limit} highest ranked elements offered: those with the greatest keys, of equal keys
+	 * the one offered with the lowest index. The lowest ranked element is at the root of this min-heap, so an element
+	 * is only let in if it outranks the root, in {@code O(log k)}.
+	 */
+	static final class Heap {
+		private final int limit;
+		private Object[] keys;
+		private Object[] elements;
+		private int[] indexes;
+		private int size;
+
+		Heap(final int limit) {
+			this.limit = limit;
+			final int capacity = Math.min(limit, 16);
+			this.keys = new Object[capacity];
+			this.elements = new Object[capacity];
+			this.indexes = new int[capacity];
+		}
+
+		void offer(final Object key, final Object element, final int index) {
+			if (size < limit) {
+				if (size == keys.length) {
+					final int capacity = (int) Math.min(limit, size * 2L);
+					keys = Arrays.copyOf(keys, capacity);
+					elements = Arrays.copyOf(elements, capacity);
+					indexes = Arrays.copyOf(indexes, capacity);
+				}
+				set(size, key, element, index);
+				siftUp(size++);
+			}
+			else if (limit > 0 && outranks(key, index, keys[0], indexes[0])) {
+				set(0, key, element, index);
+				siftDown(0);
+			}
+		}
+
+		/**
+		 * Offers all elements of the other heap to this one.
+		 */
+		Heap combine(final Heap other) {
+			for (int i = 0; i < other.size; i++) {
+				offer(other.keys[i], other.elements[i], other.indexes[i]);
+			}
+			return this;
+		}
+
+		/**
+		 * Empties this heap into an unmodifiable list, highest ranked first.
+		 */
+		<E> List<E> toList() {
+			final Object[] ranked = new Object[size];
+			for (int i = size - 1; i >= 0; i--) {
+				ranked[i] = elements[0];
+				size--;
+				set(0, keys[size], elements[size], indexes[size]);
+				siftDown(0);
+			}
+			return Immutables.list(ranked, ranked.length);
+		}
+
+		private void siftUp(int i) {
+			while (i > 0) {
+				final int parent = (i - 1) >>> 1;
+				if (!outranks(keys[parent], indexes[parent], keys[i], indexes[i])) {
+					return;
+				}
+				swap(i, parent);
+				i = parent;
+			}
+		}
+
+		private void siftDown(int i) {
+			while (true) {
+				int lowest = i;
+				final int left = 2 * i + 1;
+				final int right = left + 1;
+				if (left < size && outranks(keys[lowest], indexes[lowest], keys[left], indexes[left])) {
+					lowest = left;
+				}
+				if (right < size && outranks(keys[lowest], indexes[lowest], keys[right], indexes[right])) {
+					lowest = right;
+				}
+				if (lowest == i) {
+					return;
+				}
+				swap(i, lowest);
+				i = lowest;
+			}
+		}
+
+		private static boolean outranks(final Object key, final int index, final Object otherKey, final int otherIndex) {
+			final int comparison = compare(key, otherKey);
+			return comparison > 0 || (comparison == 0 && index < otherIndex);
+		}
+
+		private void set(final int i, final Object key, final Object element, final int index) {
+			keys[i] = key;
+			elements[i] = element;
+			indexes[i] = index;
+		}
+
+		private void swap(final int i, final int j) {
+			final Object key = keys[i];
+			final Object element = elements[i];
+			final int index = indexes[i];
+			set(i, keys[j], elements[j], indexes[j]);
+			set(j, key, element, index);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import io.github.jevanlingen.luwak.function.ƒ;
+
+/**
+ * Holds canonical wrapper instances for values that are frequently wrapped: the two {@link Boolean} constants,
+ * the cached {@link Integer} instances ({@code -128} to {@code 127}) and enum constants.
+ *
+ * <p>A canonical instance is only handed out when it wraps the very same value instance, so callers can never
+ * observe the difference between a cached and a freshly created wrapper.
+ *
+ * @param <W> the type of the wrapper
+ */
+final class Canonical<W> {
+	private static final int LOW = -128;
+	private static final int HIGH = 127;
+
+	private final ƒ<Object, W> factory;
+	private final W trueInstance;
+	private final W falseInstance;
+	private final Object[] integers;
+	private final ClassValue<Object[]> enums;
+
+	Canonical(final ƒ<Object, W> factory) {
+		this.factory = factory;
+		this.trueInstance = factory.apply(Boolean.TRUE);
+		this.falseInstance = factory.apply(Boolean.FALSE);
+		this.integers = new Object[HIGH - LOW + 1];
+		for (int i = 0; i < integers.length; i++) {
+			integers[i] = factory.apply(i + LOW);
+		}
+		this.enums = new ClassValue<>() {
+			@Override
+			protected Object[] computeValue(final Class<?> type) {
+				final Object[] constants = type.getEnumConstants();
+				final Object[] wrappers = new Object[constants.length];
+				for (int i = 0; i < constants.length; i++) {
+					wrappers[i] = Canonical.this.factory.apply(constants[i]);
+				}
+				return wrappers;
+			}
+		};
+	}
+
+	/**
+	 * Returns the canonical wrapper of the given value, or {@code null} if there is none.
+	 *
+	 * @param value the non-{@code null} value
+	 * @return the canonical wrapper or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	W lookup(final Object value) {
+		if (value == Boolean.TRUE) {
+			return trueInstance;
+		}
+
+		if (value == Boolean.FALSE) {
+			return falseInstance;
+		}
+
+		if (value instanceof Integer) {
+			final int i = (Integer) value;
+			// only the instances from the Integer cache, another box of the same number must stay distinct
+			if (i >= LOW && i <= HIGH && value == Integer.valueOf(i)) {
+				return (W) integers[i - LOW];
+			}
+			return null;
+		}
+
+		if (value instanceof Enum) {
+			final Enum<?> constant = (Enum<?>) value;
+			return (W) enums.get(constant.getDeclaringClass())[constant.ordinal()];
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,14 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+/**
+ * The type with a single value, used as the successful value of an operation that only has side effects,
+ * see {@link Œ#doRun}.
+ */
+public enum Unit {
+	INSTANCE;
+
+	@Override
+	public String toString() {
+		return "()";
+	}
+}
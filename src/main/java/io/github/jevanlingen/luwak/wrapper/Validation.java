@@ -0,0 +1,484 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.jevanlingen.luwak.function.$;
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.ƒ2;
+import io.github.jevanlingen.luwak.function.ƒ3;
+import io.github.jevanlingen.luwak.function.ƒ4;
+import io.github.jevanlingen.luwak.function.ℙ;
+
+/**
+ * Validation class, holds either a valid value or all errors found while validating.
+ *
+ * <p>Unlike {@link Œ}, which stops at the first failure, combining validations with {@link #combine} or
+ * {@code mapN} accumulates the errors of every invalid input. Errors are plain values (for example an enum or a
+ * message), no exceptions are created. Combining refers to the errors of the inputs instead of copying them, they
+ * are copied into one array once, when first read, so a long chain of {@code combine} calls stays linear.
+ *
+ * @param <E> The error type
+ * @param <V> The value
+ */
+public abstract class Validation<E, V> {
+	private Validation() {
+	}
+
+	/**
+	 * If valid, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if valid, otherwise {@code false}
+	 */
+	public abstract boolean isValid();
+
+	/**
+	 * Returns the errors of this validation, in the order they were found.
+	 *
+	 * @return an unmodifiable list of errors, empty if valid
+	 */
+	public abstract List<E> errors();
+
+	/**
+	 * If valid, returns the value, otherwise returns {@code other}.
+	 *
+	 * @param other the value to be returned, if invalid. May be {@code null}.
+	 * @return the value, if valid, otherwise {@code other}
+	 */
+	public abstract V orElse(final V other);
+
+	/**
+	 * If valid, returns the value, otherwise returns the result produced by the supplying function.
+	 *
+	 * @param supplier the supplying function that produces a value to be returned
+	 * @return the value, if valid, otherwise the result produced by the supplying function
+	 * @throws NullPointerException if invalid and the supplying function is {@code null}
+	 */
+	public abstract V orElseGet(final $<V> supplier);
+
+	/**
+	 * If valid, returns a {@code Validation} describing the result of applying the given mapping function to
+	 * the value, otherwise returns this invalid {@code Validation}.
+	 *
+	 * @param mapper the mapping function to apply to a value
+	 * @param <U>    The type of the value returned from the mapping function
+	 * @return a {@code Validation} describing the mapped value if valid, otherwise this invalid {@code Validation}
+	 * @throws NullPointerException if the mapping function is {@code null} or returns a {@code null} result
+	 */
+	public abstract <U> Validation<E, U> map(final ƒ<? super V, ? extends U> mapper);
+
+	/**
+	 * If invalid, returns a {@code Validation} with the given mapping function applied to every error,
+	 * otherwise returns this valid {@code Validation}.
+	 *
+	 * @param mapper the mapping function to apply to each error
+	 * @param <F>    The type of the errors returned from the mapping function
+	 * @return a {@code Validation} with the mapped errors if invalid, otherwise this valid {@code Validation}
+	 * @throws NullPointerException if the mapping function is {@code null} or returns a {@code null} result
+	 */
+	public abstract <F> Validation<F, V> mapError(final ƒ<? super E, ? extends F> mapper);
+
+	/**
+	 * If valid, returns the result of applying the given {@code Validation}-bearing mapping function to the value,
+	 * otherwise returns this invalid {@code Validation}. This is a sequential step, the mapping function is not
+	 * applied (and its errors are not accumulated) when already invalid.
+	 *
+	 * @param mapper the mapping function to apply to a value
+	 * @param <U>    The type of value of the {@code Validation} returned by the mapping function
+	 * @return the result of the mapping function if valid, otherwise this invalid {@code Validation}
+	 * @throws NullPointerException if the mapping function is {@code null} or returns a {@code null} result
+	 */
+	public abstract <U> Validation<E, U> flatMap(final ƒ<? super V, ? extends Validation<E, ? extends U>> mapper);
+
+	/**
+	 * Applies the valid function to the value if valid, otherwise applies the invalid function to the errors.
+	 *
+	 * @param onValid   the function to apply to a valid value
+	 * @param onInvalid the function to apply to the errors
+	 * @param <R>       the type of the result
+	 * @return the result of the applied function
+	 * @throws NullPointerException if the applied function is {@code null}
+	 */
+	public abstract <R> R fold(final ƒ<? super V, ? extends R> onValid, final ƒ<? super List<E>, ? extends R> onInvalid);
+
+	/**
+	 * Combines this validation with another one. If both are valid, returns a {@code Validation} describing the
+	 * result of the combining function, otherwise returns an invalid {@code Validation} holding the errors of both.
+	 *
+	 * @param other    the other validation
+	 * @param combiner the combining function to apply to both values, if valid
+	 * @param <U>      the type of the other value
+	 * @param <R>      the type of the combined value
+	 * @return the combined {@code Validation}
+	 * @throws NullPointerException if any argument is {@code null} or the combining function returns a {@code null} result
+	 */
+	public <U, R> Validation<E, R> combine(final Validation<E, U> other, final ƒ2<? super V, ? super U, ? extends R> combiner) {
+		return mapN(this, other, combiner);
+	}
+
+	/**
+	 * Converts this validation to a {@code Œ}. A single {@code RuntimeException} error becomes the exception of the
+	 * failure, so {@code fromŒ(result).toŒ()} is equivalent to {@code result}. Other errors are joined into the
+	 * message of a stackless failure, using their {@code toString()} representation.
+	 *
+	 * @return a successful {@code Œ} if valid, otherwise a failure {@code Œ}
+	 */
+	public Œ<V> toŒ() {
+		return fold(Œ::of, errors -> errors.size() == 1 && errors.get(0) instanceof RuntimeException
+				? Œ.failure((RuntimeException) errors.get(0))
+				: Œ.stacklessFailure(errors.toString()));
+	}
+
+	/**
+	 * Returns a valid {@code Validation} describing the given non-{@code null} value.
+	 *
+	 * @param value the value to describe, which must be non-{@code null}
+	 * @param <E>   the type of the errors
+	 * @param <V>   the type of the value
+	 * @return a valid {@code Validation}
+	 * @throws NullPointerException if value is {@code null}
+	 */
+	public static <E, V> Validation<E, V> valid(final V value) {
+		return new Valid<>(value);
+	}
+
+	/**
+	 * Returns an invalid {@code Validation} holding the given error.
+	 *
+	 * @param error the error, which must be non-{@code null}
+	 * @param <E>   the type of the errors
+	 * @param <V>   the type of the value
+	 * @return an invalid {@code Validation}
+	 * @throws NullPointerException if error is {@code null}
+	 */
+	public static <E, V> Validation<E, V> invalid(final E error) {
+		return new Invalid<>(new Object[] { Objects.requireNonNull(error) });
+	}
+
+	/**
+	 * Returns an invalid {@code Validation} holding the given errors.
+	 *
+	 * @param errors the errors, at least one and all non-{@code null}
+	 * @param <E>    the type of the errors
+	 * @param <V>    the type of the value
+	 * @return an invalid {@code Validation}
+	 * @throws NullPointerException     if errors or any of its elements is {@code null}
+	 * @throws IllegalArgumentException if errors is empty
+	 */
+	public static <E, V> Validation<E, V> invalid(final List<? extends E> errors) {
+		final Object[] array = errors.toArray();
+		if (array.length == 0) {
+			throw new IllegalArgumentException("An invalid validation needs at least one error");
+		}
+		for (Object error : array) {
+			Objects.requireNonNull(error);
+		}
+		return new Invalid<>(array);
+	}
+
+	/**
+	 * Matches non-{@code null} value to given predicate, if so it returns a valid {@code Validation}
+	 * describing the value, otherwise returns an invalid {@code Validation} holding the given error.
+	 *
+	 * @param predicate the predicate to apply to the value
+	 * @param value     the value to describe, which must be non-{@code null}
+	 * @param error     the error if the value does not match the predicate
+	 * @param <E>       the type of the errors
+	 * @param <V>       the type of the value
+	 * @return a valid {@code Validation} if the value matches, otherwise an invalid {@code Validation}
+	 * @throws NullPointerException if predicate or value is {@code null}
+	 */
+	public static <E, V> Validation<E, V> of(final ℙ<? super V> predicate, final V value, final E error) {
+		Objects.requireNonNull(predicate);
+		return predicate.test(value) ? valid(value) : invalid(error);
+	}
+
+	/**
+	 * Converts a {@code Œ} to a {@code Validation}, the exception of a failure becomes its single error.
+	 *
+	 * @param result the result to convert
+	 * @param <V>    the type of the value
+	 * @return a valid {@code Validation} if successful, otherwise an invalid {@code Validation}
+	 * @throws NullPointerException if result is {@code null}
+	 */
+	public static <V> Validation<RuntimeException, V> fromŒ(final Œ<V> result) {
+		return result.fold(Validation::valid, Validation::invalid);
+	}
+
+	/**
+	 * If both validations are valid, returns a {@code Validation} describing the result of the combining function,
+	 * otherwise returns an invalid {@code Validation} holding the errors of all invalid validations, in order.
+	 *
+	 * @param a        the first validation
+	 * @param b        the second validation
+	 * @param combiner the combining function to apply to the values, if all valid
+	 * @param <E>      the type of the errors
+	 * @param <A>      the type of the first value
+	 * @param <B>      the type of the second value
+	 * @param <R>      the type of the combined value
+	 * @return the combined {@code Validation}
+	 * @throws NullPointerException if any argument is {@code null} or the combining function returns a {@code null} result
+	 */
+	public static <E, A, B, R> Validation<E, R> mapN(final Validation<E, A> a, final Validation<E, B> b,
+			final ƒ2<? super A, ? super B, ? extends R> combiner) {
+		Objects.requireNonNull(combiner);
+
+		if (a.isValid() && b.isValid()) {
+			return valid(combiner.apply(value(a), value(b)));
+		}
+
+		return concat(concat(a, b));
+	}
+
+	/**
+	 * If all three validations are valid, returns a {@code Validation} describing the result of the combining
+	 * function, otherwise returns an invalid {@code Validation} holding the errors of all invalid validations, in order.
+	 *
+	 * @param a        the first validation
+	 * @param b        the second validation
+	 * @param c        the third validation
+	 * @param combiner the combining function to apply to the values, if all valid
+	 * @param <E>      the type of the errors
+	 * @param <A>      the type of the first value
+	 * @param <B>      the type of the second value
+	 * @param <C>      the type of the third value
+	 * @param <R>      the type of the combined value
+	 * @return the combined {@code Validation}
+	 * @throws NullPointerException if any argument is {@code null} or the combining function returns a {@code null} result
+	 */
+	public static <E, A, B, C, R> Validation<E, R> mapN(final Validation<E, A> a, final Validation<E, B> b,
+			final Validation<E, C> c, final ƒ3<? super A, ? super B, ? super C, ? extends R> combiner) {
+		Objects.requireNonNull(combiner);
+
+		if (a.isValid() && b.isValid() && c.isValid()) {
+			return valid(combiner.apply(value(a), value(b), value(c)));
+		}
+
+		return concat(concat(a, b, c));
+	}
+
+	/**
+	 * If all four validations are valid, returns a {@code Validation} describing the result of the combining
+	 * function, otherwise returns an invalid {@code Validation} holding the errors of all invalid validations, in order.
+	 *
+	 * @param a        the first validation
+	 * @param b        the second validation
+	 * @param c        the third validation
+	 * @param d        the fourth validation
+	 * @param combiner the combining function to apply to the values, if all valid
+	 * @param <E>      the type of the errors
+	 * @param <A>      the type of the first value
+	 * @param <B>      the type of the second value
+	 * @param <C>      the type of the third value
+	 * @param <D>      the type of the fourth value
+	 * @param <R>      the type of the combined value
+	 * @return the combined {@code Validation}
+	 * @throws NullPointerException if any argument is {@code null} or the combining function returns a {@code null} result
+	 */
+	public static <E, A, B, C, D, R> Validation<E, R> mapN(final Validation<E, A> a, final Validation<E, B> b,
+			final Validation<E, C> c, final Validation<E, D> d,
+			final ƒ4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner) {
+		Objects.requireNonNull(combiner);
+
+		if (a.isValid() && b.isValid() && c.isValid() && d.isValid()) {
+			return valid(combiner.apply(value(a), value(b), value(c), value(d)));
+		}
+
+		return concat(concat(a, b, c, d));
+	}
+
+	private static <V> V value(final Validation<?, V> validation) {
+		return ((Valid<?, V>) validation).value;
+	}
+
+	/**
+	 * Returns an invalid {@code Validation} holding the errors of the given validations, of which at least one is
+	 * invalid. A single invalid validation is returned as is, otherwise the errors are not copied but referred to.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E, R> Validation<E, R> concat(final Validation<?, ?>... validations) {
+		int count = 0;
+		for (Validation<?, ?> validation : validations) {
+			if (!validation.isValid()) {
+				validations[count++] = validation;
+			}
+		}
+		return count == 1
+				? (Validation<E, R>) validations[0]
+				: new Invalid<>(Arrays.copyOf(validations, count, Invalid[].class));
+	}
+
+	private static class Valid<E, V> extends Validation<E, V> {
+		private final V value;
+
+		private Valid(final V value) {
+			this.value = Objects.requireNonNull(value);
+		}
+
+		@Override
+		public boolean isValid() {
+			return true;
+		}
+
+		@Override
+		public List<E> errors() {
+			return List.of();
+		}
+
+		@Override
+		public V orElse(V other) {
+			return value;
+		}
+
+		@Override
+		public V orElseGet($<V> supplier) {
+			return value;
+		}
+
+		@Override
+		public <U> Validation<E, U> map(ƒ<? super V, ? extends U> mapper) {
+			return valid(mapper.apply(value));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <F> Validation<F, V> mapError(ƒ<? super E, ? extends F> mapper) {
+			Objects.requireNonNull(mapper);
+			return (Validation<F, V>) this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U> Validation<E, U> flatMap(ƒ<? super V, ? extends Validation<E, ? extends U>> mapper) {
+			return (Validation<E, U>) Objects.requireNonNull(mapper.apply(value));
+		}
+
+		@Override
+		public <R> R fold(ƒ<? super V, ? extends R> onValid, ƒ<? super List<E>, ? extends R> onInvalid) {
+			return onValid.apply(value);
+		}
+
+		@Override
+		public String toString() {
+			return "Valid (" + value + ")";
+		}
+	}
+
+	private static class Invalid<E, V> extends Validation<E, V> {
+		/**
+		 * The errors, {@code null} until the errors of the parts are first read.
+		 */
+		private volatile Object[] errors;
+
+		/**
+		 * The invalid validations this one combines, in order, or {@code null} if created with its errors.
+		 */
+		private final Invalid<?, ?>[] parts;
+		private final int size;
+
+		private Invalid(final Object[] errors) {
+			this.errors = errors;
+			this.parts = null;
+			this.size = errors.length;
+		}
+
+		private Invalid(final Invalid<?, ?>[] parts) {
+			int size = 0;
+			for (Invalid<?, ?> part : parts) {
+				size += part.size;
+			}
+			this.parts = parts;
+			this.size = size;
+		}
+
+		/**
+		 * Returns the errors, copying the errors of the parts into one array on first use. The parts are walked with
+		 * an explicit stack, as a long chain of combined validations is as deep as it is long.
+		 */
+		private Object[] errorArray() {
+			Object[] flat = errors;
+			if (flat == null) {
+				flat = new Object[size];
+				int offset = size;
+				final ArrayDeque<Invalid<?, ?>> pending = new ArrayDeque<>();
+				pending.push(this);
+				while (!pending.isEmpty()) {
+					final Invalid<?, ?> next = pending.pop();
+					final Object[] nextErrors = next.errors;
+					if (nextErrors != null) {
+						offset -= nextErrors.length;
+						System.arraycopy(nextErrors, 0, flat, offset, nextErrors.length);
+					}
+					else {
+						// pushed left to right, so the rightmost part is copied first, to the end of the array
+						for (Invalid<?, ?> part : next.parts) {
+							pending.push(part);
+						}
+					}
+				}
+				errors = flat;
+			}
+			return flat;
+		}
+
+		@Override
+		public boolean isValid() {
+			return false;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<E> errors() {
+			return unmodifiableList((List<E>) Arrays.asList(errorArray()));
+		}
+
+		@Override
+		public V orElse(V other) {
+			return other;
+		}
+
+		@Override
+		public V orElseGet($<V> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U> Validation<E, U> map(ƒ<? super V, ? extends U> mapper) {
+			Objects.requireNonNull(mapper);
+			return (Validation<E, U>) this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <F> Validation<F, V> mapError(ƒ<? super E, ? extends F> mapper) {
+			final Object[] errors = errorArray();
+			final Object[] mapped = new Object[errors.length];
+			for (int i = 0; i < errors.length; i++) {
+				mapped[i] = Objects.requireNonNull(mapper.apply((E) errors[i]));
+			}
+			return new Invalid<>(mapped);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U> Validation<E, U> flatMap(ƒ<? super V, ? extends Validation<E, ? extends U>> mapper) {
+			Objects.requireNonNull(mapper);
+			return (Validation<E, U>) this;
+		}
+
+		@Override
+		public <R> R fold(ƒ<? super V, ? extends R> onValid, ƒ<? super List<E>, ? extends R> onInvalid) {
+			return onInvalid.apply(errors());
+		}
+
+		@Override
+		public String toString() {
+			return "Invalid " + Arrays.toString(errorArray());
+		}
+	}
+}
@@ -1,5 +1,9 @@
 package io.github.jevanlingen.luwak.wrapper;
 
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -7,6 +11,9 @@ import java.util.stream.Stream;
 
 import io.github.jevanlingen.luwak.function.$;
 import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.ƒ2;
+import io.github.jevanlingen.luwak.function.ƒ3;
+import io.github.jevanlingen.luwak.function.ƒ4;
 import io.github.jevanlingen.luwak.function.₵;
 import io.github.jevanlingen.luwak.function.ℙ;
 import io.github.jevanlingen.luwak.function.ℝ;
@@ -27,15 +34,19 @@ import io.github.jevanlingen.luwak.function.ℝ;
  */
 public class Ø<T> {
 	private static final Ø<?> EMPTY = new Ø<>();
+	private static final Canonical<Ø<?>> CANONICAL = new Canonical<>(Ø::new);
 
-	private final Optional<T> value;
+	/**
+	 * The described value, {@code null} if and only if this is the {@link #EMPTY} instance.
+	 */
+	private final T value;
 
 	private Ø() {
-		this.value = Optional.empty();
+		this.value = null;
 	}
 
 	private Ø(T value) {
-		this.value = Optional.of(value);
+		this.value = Objects.requireNonNull(value);
 	}
 
 	/**
@@ -57,7 +68,7 @@ public class Ø<T> {
 	 * @throws NullPointerException if value is {@code null}
 	 */
 	public static <T> Ø<T> of(T value) {
-		return new Ø<>(value);
+		return wrap(Objects.requireNonNull(value));
 	}
 
 	/**
@@ -71,7 +82,7 @@ public class Ø<T> {
 	 */
 	public static <T> Ø<T> of(Optional<T> optional) {
 		Objects.requireNonNull(optional);
-		return optional.map(Ø::of).orElseGet(Ø::empty);
+		return optional.isPresent() ? wrap(optional.get()) : empty();
 	}
 
 	/**
@@ -84,7 +95,167 @@ public class Ø<T> {
 	 * is non-{@code null}, otherwise an empty {@code Ø}
 	 */
 	public static <T> Ø<T> ofNullable(T value) {
-		return value == null ? empty() : of(value);
+		return value == null ? empty() : wrap(value);
+	}
+
+	/**
+	 * Wraps a non-{@code null} value, booleans, small integers and enum constants get a shared instance.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Ø<T> wrap(T value) {
+		final Ø<T> canonical = (Ø<T>) CANONICAL.lookup(value);
+		return canonical != null ? canonical : new Ø<>(value);
+	}
+
+	/**
+	 * Returns a deferred pipeline, its stages are fused and only evaluated when a terminal operation is called.
+	 *
+	 * @param <T> the type of the input value
+	 * @return a {@code ØView} without any stages
+	 * @see ØView
+	 */
+	public static <T> ØView<T, T> lazy() {
+		return ØView.identity();
+	}
+
+	/**
+	 * If both values are present, returns an {@code Ø} describing (as if by {@link #ofNullable})
+	 * the result of applying the given combining function to the values, otherwise returns an empty {@code Ø}.
+	 *
+	 * @param a        the first {@code Ø}
+	 * @param b        the second {@code Ø}
+	 * @param combiner the combining function to apply to the values, if all present
+	 * @param <A>      the type of the first value
+	 * @param <B>      the type of the second value
+	 * @param <R>      the type of the value returned from the combining function
+	 * @return an {@code Ø} describing the result of the combining function, if all values are present,
+	 * otherwise an empty {@code Ø}
+	 * @throws NullPointerException if any of the arguments is {@code null}
+	 */
+	public static <A, B, R> Ø<R> zip(Ø<A> a, Ø<B> b, ƒ2<? super A, ? super B, ? extends R> combiner) {
+		Objects.requireNonNull(a);
+		Objects.requireNonNull(b);
+		Objects.requireNonNull(combiner);
+
+		if (a.value == null || b.value == null) {
+			return empty();
+		}
+
+		return ofNullable(combiner.apply(a.value, b.value));
+	}
+
+	/**
+	 * If all three values are present, returns an {@code Ø} describing (as if by {@link #ofNullable})
+	 * the result of applying the given combining function to the values, otherwise returns an empty {@code Ø}.
+	 *
+	 * @param a        the first {@code Ø}
+	 * @param b        the second {@code Ø}
+	 * @param c        the third {@code Ø}
+	 * @param combiner the combining function to apply to the values, if all present
+	 * @param <A>      the type of the first value
+	 * @param <B>      the type of the second value
+	 * @param <C>      the type of the third value
+	 * @param <R>      the type of the value returned from the combining function
+	 * @return an {@code Ø} describing the result of the combining function, if all values are present,
+	 * otherwise an empty {@code Ø}
+	 * @throws NullPointerException if any of the arguments is {@code null}
+	 */
+	public static <A, B, C, R> Ø<R> zip(Ø<A> a, Ø<B> b, Ø<C> c, ƒ3<? super A, ? super B, ? super C, ? extends R> combiner) {
+		Objects.requireNonNull(a);
+		Objects.requireNonNull(b);
+		Objects.requireNonNull(c);
+		Objects.requireNonNull(combiner);
+
+		if (a.value == null || b.value == null || c.value == null) {
+			return empty();
+		}
+
+		return ofNullable(combiner.apply(a.value, b.value, c.value));
+	}
+
+	/**
+	 * If all four values are present, returns an {@code Ø} describing (as if by {@link #ofNullable})
+	 * the result of applying the given combining function to the values, otherwise returns an empty {@code Ø}.
+	 *
+	 * @param a        the first {@code Ø}
+	 * @param b        the second {@code Ø}
+	 * @param c        the third {@code Ø}
+	 * @param d        the fourth {@code Ø}
+	 * @param combiner the combining function to apply to the values, if all present
+	 * @param <A>      the type of the first value
+	 * @param <B>      the type of the second value
+	 * @param <C>      the type of the third value
+	 * @param <D>      the type of the fourth value
+	 * @param <R>      the type of the value returned from the combining function
+	 * @return an {@code Ø} describing the result of the combining function, if all values are present,
+	 * otherwise an empty {@code Ø}
+	 * @throws NullPointerException if any of the arguments is {@code null}
+	 */
+	public static <A, B, C, D, R> Ø<R> zip(Ø<A> a, Ø<B> b, Ø<C> c, Ø<D> d, ƒ4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner) {
+		Objects.requireNonNull(a);
+		Objects.requireNonNull(b);
+		Objects.requireNonNull(c);
+		Objects.requireNonNull(d);
+		Objects.requireNonNull(combiner);
+
+		if (a.value == null || b.value == null || c.value == null || d.value == null) {
+			return empty();
+		}
+
+		return ofNullable(combiner.apply(a.value, b.value, c.value, d.value));
+	}
+
+	/**
+	 * If every {@code Ø} in the list has a value present, returns an {@code Ø} describing an unmodifiable list of
+	 * those values (in the same order), otherwise returns an empty {@code Ø}. Stops at the first empty {@code Ø}.
+	 *
+	 * @param list the list of {@code Ø} instances
+	 * @param <T>  the type of the values
+	 * @return an {@code Ø} describing the list of values, if all are present, otherwise an empty {@code Ø}
+	 * @throws NullPointerException if the list or any of its elements is {@code null}
+	 */
+	public static <T> Ø<List<T>> sequence(List<? extends Ø<? extends T>> list) {
+		Objects.requireNonNull(list);
+
+		final var values = new ArrayList<T>(list.size());
+
+		for (Ø<? extends T> optional : list) {
+			if (optional.value == null) {
+				return empty();
+			}
+			values.add(optional.value);
+		}
+
+		return new Ø<>(unmodifiableList(values));
+	}
+
+	/**
+	 * Applies the given {@code Ø}-bearing mapping function to every element of the list. If every result has a
+	 * value present, returns an {@code Ø} describing an unmodifiable list of those values (in the same order),
+	 * otherwise returns an empty {@code Ø}. Stops at the first empty result, the remaining elements are not mapped.
+	 *
+	 * @param list   the list to be mapped
+	 * @param mapper the {@code Ø}-bearing mapping function to apply to each element
+	 * @param <T>    the type of the elements
+	 * @param <R>    the type of the values
+	 * @return an {@code Ø} describing the list of values, if all are present, otherwise an empty {@code Ø}
+	 * @throws NullPointerException if either list or mapper are null or the mapper returns a {@code null} result
+	 */
+	public static <T, R> Ø<List<R>> traverse(List<T> list, ƒ<? super T, ? extends Ø<? extends R>> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final var values = new ArrayList<R>(list.size());
+
+		for (T t : list) {
+			final R value = Objects.requireNonNull(mapper.apply(t)).value;
+			if (value == null) {
+				return empty();
+			}
+			values.add(value);
+		}
+
+		return new Ø<>(unmodifiableList(values));
 	}
 
 	/**
@@ -94,7 +265,7 @@ public class Ø<T> {
 	 * is non-{@code null}, otherwise an empty {@code Optional}
 	 */
 	public Optional<T> toOptional() {
-		return this.value;
+		return Optional.ofNullable(value);
 	}
 
 	/**
@@ -107,7 +278,10 @@ public class Ø<T> {
 	 */
 	@Deprecated
 	public T get() {
-		return value.get();
+		if (value == null) {
+			throw new NoSuchElementException("No value present");
+		}
+		return value;
 	}
 
 	/**
@@ -116,7 +290,7 @@ public class Ø<T> {
 	 * @return {@code true} if a value is present, otherwise {@code false}
 	 */
 	public boolean isPresent() {
-		return value.isPresent();
+		return value != null;
 	}
 
 	/**
@@ -125,7 +299,7 @@ public class Ø<T> {
 	 * @return {@code true} if a value is not present, otherwise {@code false}
 	 */
 	public boolean isEmpty() {
-		return value.isEmpty();
+		return value == null;
 	}
 
 	/**
@@ -135,7 +309,9 @@ public class Ø<T> {
 	 * @throws NullPointerException if value is present and the given action is {@code null}
 	 */
 	public void ifPresent(₵<? super T> action) {
-		value.ifPresent(action);
+		if (value != null) {
+			action.accept(value);
+		}
 	}
 
 	/**
@@ -149,7 +325,12 @@ public class Ø<T> {
 	 *                              action is {@code null}.
 	 */
 	public void ifPresentOrElse(₵<? super T> action, ℝ emptyAction) {
-		value.ifPresentOrElse(action, emptyAction);
+		if (value != null) {
+			action.accept(value);
+		}
+		else {
+			emptyAction.run();
+		}
 	}
 
 	/**
@@ -164,7 +345,13 @@ public class Ø<T> {
 	 * @throws NullPointerException if the predicate is {@code null}
 	 */
 	public Ø<T> filter(ℙ<? super T> predicate) {
-		return of(value.filter(predicate));
+		Objects.requireNonNull(predicate);
+
+		if (value == null) {
+			return this;
+		}
+
+		return predicate.test(value) ? this : empty();
 	}
 
 	/**
@@ -183,7 +370,13 @@ public class Ø<T> {
 	 * @throws NullPointerException if the mapping function is {@code null}
 	 */
 	public <U> Ø<U> map(ƒ<? super T, ? extends U> mapper) {
-		return of(value.map(mapper));
+		Objects.requireNonNull(mapper);
+
+		if (value == null) {
+			return empty();
+		}
+
+		return ofNullable(mapper.apply(value));
 	}
 
 	/**
@@ -212,7 +405,7 @@ public class Ø<T> {
 		}
 
 		@SuppressWarnings("unchecked")
-		Ø<U> r = (Ø<U>) mapper.apply(get());
+		Ø<U> r = (Ø<U>) mapper.apply(value);
 		return Objects.requireNonNull(r);
 	}
 
@@ -228,7 +421,7 @@ public class Ø<T> {
 	public Ø<T> or($<? extends Ø<? extends T>> supplier) {
 		Objects.requireNonNull(supplier);
 
-		if (isPresent()) {
+		if (value != null) {
 			return this;
 		}
 
@@ -244,7 +437,7 @@ public class Ø<T> {
 	 * @return the optional value as a {@code Stream}
 	 */
 	public Stream<T> stream() {
-		return value.stream();
+		return value == null ? Stream.empty() : Stream.of(value);
 	}
 
 	/**
@@ -254,7 +447,7 @@ public class Ø<T> {
 	 * @return the value, if present, otherwise {@code other}
 	 */
 	public T orElse(T other) {
-		return value.orElse(other);
+		return value != null ? value : other;
 	}
 
 	/**
@@ -266,7 +459,7 @@ public class Ø<T> {
 	 * @throws NullPointerException if no value is present and the supplying function is {@code null}
 	 */
 	public T orElseGet($<? extends T> supplier) {
-		return value.orElseGet(supplier);
+		return value != null ? value : supplier.get();
 	}
 
 	/**
@@ -276,7 +469,10 @@ public class Ø<T> {
 	 * @throws NoSuchElementException if no value is present
 	 */
 	public T orElseThrow() {
-		return value.orElseThrow();
+		if (value == null) {
+			throw new NoSuchElementException("No value present");
+		}
+		return value;
 	}
 
 	/**
@@ -290,7 +486,37 @@ public class Ø<T> {
 	 * @throws NullPointerException if no value is present and the exception supplying function is {@code null}
 	 */
 	public <X extends Throwable> T orElseThrow($<? extends X> exceptionSupplier) throws X {
-		return value.orElseThrow(exceptionSupplier);
+		if (value == null) {
+			throw exceptionSupplier.get();
+		}
+		return value;
+	}
+
+	/**
+	 * If a value is present, returns the result of applying the given function to the value,
+	 * otherwise returns the result produced by the supplying function. Branches without creating
+	 * an intermediate {@code Ø}.
+	 *
+	 * @param onPresent the function to apply to a value, if present
+	 * @param onEmpty   the supplying function that produces the result, if no value is present
+	 * @param <R>       the type of the result
+	 * @return the result of the applied function
+	 * @throws NullPointerException if the applied function is {@code null}
+	 */
+	public <R> R fold(ƒ<? super T, ? extends R> onPresent, $<? extends R> onEmpty) {
+		return value != null ? onPresent.apply(value) : onEmpty.get();
+	}
+
+	/**
+	 * Performs the present action with the value if a value is present, otherwise performs the empty
+	 * action. The counterpart of {@link Œ#match(₵, ₵)}, equivalent to {@link #ifPresentOrElse(₵, ℝ)}.
+	 *
+	 * @param onPresent the action to be performed, if a value is present
+	 * @param onEmpty   the action to be performed, if no value is present
+	 * @throws NullPointerException if the performed action is {@code null}
+	 */
+	public void match(₵<? super T> onPresent, ℝ onEmpty) {
+		ifPresentOrElse(onPresent, onEmpty);
 	}
 
 	/**
@@ -317,11 +543,7 @@ public class Ø<T> {
 
 		Ø<?> other = (Ø<?>) obj;
 
-		if (this.isEmpty() && other.isEmpty()) {
-			return true;
-		}
-
-		return this.isPresent() && other.isPresent() && Objects.equals(this.get(), other.get());
+		return Objects.equals(this.value, other.value);
 	}
 
 	/**
@@ -331,7 +553,7 @@ public class Ø<T> {
 	 */
 	@Override
 	public int hashCode() {
-		return value.hashCode();
+		return Objects.hashCode(value);
 	}
 
 	/**
@@ -342,6 +564,8 @@ public class Ø<T> {
 	 */
 	@Override
 	public String toString() {
-		return value.toString();
+		return value != null
+				? "Optional[" + value + "]"
+				: "Optional.empty";
 	}
 }
\ No newline at end of file
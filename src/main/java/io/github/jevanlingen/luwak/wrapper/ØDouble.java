@@ -0,0 +1,373 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+import io.github.jevanlingen.luwak.function.$;
+import io.github.jevanlingen.luwak.function.primitive.DoubleUnaryƒ;
+import io.github.jevanlingen.luwak.function.primitive.Doubleƒ;
+import io.github.jevanlingen.luwak.function.primitive.Double$;
+import io.github.jevanlingen.luwak.function.primitive.Double₵;
+import io.github.jevanlingen.luwak.function.primitive.Doubleℙ;
+import io.github.jevanlingen.luwak.function.ℝ;
+
+/**
+ * A container object which may or may not contain a {@code double} value.
+ * This is the primitive specialization of {@link Ø}, the value is kept
+ * in a primitive field and is never boxed.
+ *
+ * @see Ø
+ */
+public final class ØDouble {
+	private static final ØDouble EMPTY = new ØDouble();
+
+	private final boolean isPresent;
+	private final double value;
+
+	private ØDouble() {
+		this.isPresent = false;
+		this.value = 0;
+	}
+
+	private ØDouble(double value) {
+		this.isPresent = true;
+		this.value = value;
+	}
+
+	/**
+	 * Returns an empty {@code ØDouble} instance. No value is present for this optional.
+	 *
+	 * @return an empty {@code ØDouble}
+	 */
+	public static ØDouble empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns an {@code ØDouble} describing the given value.
+	 *
+	 * @param value the value to describe
+	 * @return an {@code ØDouble} with the value present
+	 */
+	public static ØDouble of(double value) {
+		return new ØDouble(value);
+	}
+
+	/**
+	 * Returns an {@code ØDouble} describing the given non-{@code null} optional.
+	 *
+	 * @param optional the optional to describe, which must be non-{@code null}
+	 * @return an {@code ØDouble} with a present value if the specified optional
+	 * is present, otherwise an empty {@code ØDouble}
+	 * @throws NullPointerException if optional is {@code null}
+	 */
+	public static ØDouble of(OptionalDouble optional) {
+		Objects.requireNonNull(optional);
+		return optional.isPresent() ? of(optional.getAsDouble()) : EMPTY;
+	}
+
+	/**
+	 * Returns an {@code ØDouble} describing the given non-{@code null} {@code Ø}.
+	 *
+	 * @param optional the {@code Ø} to describe, which must be non-{@code null}
+	 * @return an {@code ØDouble} with a present value if the specified {@code Ø}
+	 * is present, otherwise an empty {@code ØDouble}
+	 * @throws NullPointerException if optional is {@code null}
+	 */
+	public static ØDouble of(Ø<Double> optional) {
+		Objects.requireNonNull(optional);
+		return optional.isPresent() ? of(optional.orElseThrow()) : EMPTY;
+	}
+
+	/**
+	 * Translates the alias back to a native {@link OptionalDouble}.
+	 *
+	 * @return an {@code OptionalDouble} with a present value if the {@code ØDouble} value
+	 * is present, otherwise an empty {@code OptionalDouble}
+	 */
+	public OptionalDouble toOptional() {
+		return isPresent ? OptionalDouble.of(value) : OptionalDouble.empty();
+	}
+
+	/**
+	 * Returns the boxed {@code Ø} counterpart of this {@code ØDouble}.
+	 *
+	 * @return an {@code Ø} with a present value if the {@code ØDouble} value
+	 * is present, otherwise an empty {@code Ø}
+	 */
+	public Ø<Double> boxed() {
+		return isPresent ? Ø.of(value) : Ø.empty();
+	}
+
+	/**
+	 * If a value is present, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if a value is present, otherwise {@code false}
+	 */
+	public boolean isPresent() {
+		return isPresent;
+	}
+
+	/**
+	 * If a value is not present, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if a value is not present, otherwise {@code false}
+	 */
+	public boolean isEmpty() {
+		return !isPresent;
+	}
+
+	/**
+	 * If a value is present, performs the given action with the value, otherwise does nothing.
+	 *
+	 * @param action the action to be performed, if a value is present
+	 * @throws NullPointerException if value is present and the given action is {@code null}
+	 */
+	public void ifPresent(Double₵ action) {
+		if (isPresent) {
+			action.accept(value);
+		}
+	}
+
+	/**
+	 * If a value is present, performs the given action with the value,
+	 * otherwise performs the given empty-based action.
+	 *
+	 * @param action      the action to be performed, if a value is present
+	 * @param emptyAction the empty-based action to be performed, if no value is present
+	 * @throws NullPointerException if a value is present and the given action
+	 *                              is {@code null}, or no value is present and the given empty-based
+	 *                              action is {@code null}.
+	 */
+	public void ifPresentOrElse(Double₵ action, ℝ emptyAction) {
+		if (isPresent) {
+			action.accept(value);
+		}
+		else {
+			emptyAction.run();
+		}
+	}
+
+	/**
+	 * If a value is present, and the value matches the given predicate,
+	 * returns an {@code ØDouble} describing the value, otherwise returns an
+	 * empty {@code ØDouble}.
+	 *
+	 * @param predicate the predicate to apply to a value, if present
+	 * @return an {@code ØDouble} describing the value of this {@code ØDouble}, if a value is present
+	 * and the value matches the given predicate, otherwise an empty {@code ØDouble}
+	 * @throws NullPointerException if the predicate is {@code null}
+	 */
+	public ØDouble filter(Doubleℙ predicate) {
+		Objects.requireNonNull(predicate);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return predicate.test(value) ? this : EMPTY;
+	}
+
+	/**
+	 * If a value is present, returns an {@code ØDouble} describing the result of applying
+	 * the given mapping function to the value, otherwise returns an empty {@code ØDouble}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @return an {@code ØDouble} describing the result of applying a mapping
+	 * function to the value of this {@code ØDouble}, if a value is
+	 * present, otherwise an empty {@code ØDouble}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public ØDouble map(DoubleUnaryƒ mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return of(mapper.applyAsDouble(value));
+	}
+
+	/**
+	 * If a value is present, returns an {@code Ø} describing (as if by
+	 * {@link Ø#ofNullable}) the result of applying the given mapping function to
+	 * the value, otherwise returns an empty {@code Ø}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @param <U>    The type of the value returned from the mapping function
+	 * @return an {@code Ø} describing the result of applying a mapping
+	 * function to the value of this {@code ØDouble}, if a value is
+	 * present, otherwise an empty {@code Ø}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> Ø<U> mapToObj(Doubleƒ<? extends U> mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return Ø.empty();
+		}
+
+		return Ø.ofNullable(mapper.apply(value));
+	}
+
+	/**
+	 * If a value is present, returns the result of applying the given
+	 * {@code ØDouble}-bearing mapping function to the value, otherwise returns
+	 * an empty {@code ØDouble}.
+	 *
+	 * <p>This method is similar to {@link #map(DoubleUnaryƒ)}, but the mapping
+	 * function is one whose result is already an {@code ØDouble}, and if
+	 * invoked, {@code flatMap} does not wrap it within an additional
+	 * {@code ØDouble}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @return the result of applying an {@code ØDouble}-bearing mapping
+	 * function to the value of this {@code ØDouble}, if a value is
+	 * present, otherwise an empty {@code ØDouble}
+	 * @throws NullPointerException if the mapping function is {@code null} or
+	 *                              returns a {@code null} result
+	 */
+	public ØDouble flatMap(Doubleƒ<? extends ØDouble> mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return Objects.requireNonNull(mapper.apply(value));
+	}
+
+	/**
+	 * If a value is present, returns this {@code ØDouble}, otherwise returns an
+	 * {@code ØDouble} produced by the supplying function.
+	 *
+	 * @param supplier the supplying function that produces an {@code ØDouble} to be returned
+	 * @return returns this {@code ØDouble}, if a value is present,
+	 * otherwise an {@code ØDouble} produced by the supplying function.
+	 * @throws NullPointerException if the supplying function is {@code null} or produces a {@code null} result
+	 */
+	public ØDouble or($<? extends ØDouble> supplier) {
+		Objects.requireNonNull(supplier);
+
+		if (isPresent) {
+			return this;
+		}
+
+		return Objects.requireNonNull(supplier.get());
+	}
+
+	/**
+	 * If a value is present, returns a sequential {@link DoubleStream} containing
+	 * only that value, otherwise returns an empty {@code DoubleStream}.
+	 *
+	 * @return the optional value as a {@code DoubleStream}
+	 */
+	public DoubleStream stream() {
+		return isPresent ? DoubleStream.of(value) : DoubleStream.empty();
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise returns {@code other}.
+	 *
+	 * @param other the value to be returned, if no value is present
+	 * @return the value, if present, otherwise {@code other}
+	 */
+	public double orElse(double other) {
+		return isPresent ? value : other;
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise returns the result
+	 * produced by the supplying function.
+	 *
+	 * @param supplier the supplying function that produces a value to be returned
+	 * @return the value, if present, otherwise the result produced by the supplying function
+	 * @throws NullPointerException if no value is present and the supplying function is {@code null}
+	 */
+	public double orElseGet(Double$ supplier) {
+		return isPresent ? value : supplier.getAsDouble();
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise throws {@code NoSuchElementException}.
+	 *
+	 * @return the value described by this {@code ØDouble}
+	 * @throws NoSuchElementException if no value is present
+	 */
+	public double orElseThrow() {
+		if (!isPresent) {
+			throw new NoSuchElementException("No value present");
+		}
+		return value;
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise throws an exception
+	 * produced by the exception supplying function.
+	 *
+	 * @param <X>               Type of the exception to be thrown
+	 * @param exceptionSupplier the supplying function that produces an exception to be thrown
+	 * @return the value, if present
+	 * @throws X                    if no value is present
+	 * @throws NullPointerException if no value is present and the exception supplying function is {@code null}
+	 */
+	public <X extends Throwable> double orElseThrow($<? extends X> exceptionSupplier) throws X {
+		if (!isPresent) {
+			throw exceptionSupplier.get();
+		}
+		return value;
+	}
+
+	/**
+	 * Indicates whether some other object is "equal to" this {@code ØDouble}.
+	 * The other object is considered equal if:
+	 * <ul>
+	 * <li>it is also an {@code ØDouble} and;
+	 * <li>both instances have no value present or;
+	 * <li>the present values are "equal to" each other via {@code Double.compare() == 0}.
+	 * </ul>
+	 *
+	 * @param obj an object to be tested for equality
+	 * @return {@code true} if the other object is "equal to" this object otherwise {@code false}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ØDouble)) {
+			return false;
+		}
+
+		ØDouble other = (ØDouble) obj;
+		return isPresent && other.isPresent
+				? Double.compare(value, other.value) == 0
+				: isPresent == other.isPresent;
+	}
+
+	/**
+	 * Returns the hash code of the value, if present, otherwise {@code 0} (zero) if no value is present.
+	 *
+	 * @return hash code value of the present value or {@code 0} if no value is present
+	 */
+	@Override
+	public int hashCode() {
+		return isPresent ? Double.hashCode(value) : 0;
+	}
+
+	/**
+	 * Returns a non-empty string representation of this {@code ØDouble} suitable for debugging.
+	 * The exact presentation format is unspecified and may vary between implementations and versions.
+	 *
+	 * @return the string representation of this instance
+	 */
+	@Override
+	public String toString() {
+		return isPresent
+				? "OptionalDouble[" + value + "]"
+				: "OptionalDouble.empty";
+	}
+}
@@ -0,0 +1,373 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+import io.github.jevanlingen.luwak.function.$;
+import io.github.jevanlingen.luwak.function.primitive.IntUnaryƒ;
+import io.github.jevanlingen.luwak.function.primitive.Intƒ;
+import io.github.jevanlingen.luwak.function.primitive.Int$;
+import io.github.jevanlingen.luwak.function.primitive.Int₵;
+import io.github.jevanlingen.luwak.function.primitive.Intℙ;
+import io.github.jevanlingen.luwak.function.ℝ;
+
+/**
+ * A container object which may or may not contain an {@code int} value.
+ * This is the primitive specialization of {@link Ø}, the value is kept
+ * in a primitive field and is never boxed.
+ *
+ * @see Ø
+ */
+public final class ØInt {
+	private static final ØInt EMPTY = new ØInt();
+
+	private final boolean isPresent;
+	private final int value;
+
+	private ØInt() {
+		this.isPresent = false;
+		this.value = 0;
+	}
+
+	private ØInt(int value) {
+		this.isPresent = true;
+		this.value = value;
+	}
+
+	/**
+	 * Returns an empty {@code ØInt} instance. No value is present for this optional.
+	 *
+	 * @return an empty {@code ØInt}
+	 */
+	public static ØInt empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns an {@code ØInt} describing the given value.
+	 *
+	 * @param value the value to describe
+	 * @return an {@code ØInt} with the value present
+	 */
+	public static ØInt of(int value) {
+		return new ØInt(value);
+	}
+
+	/**
+	 * Returns an {@code ØInt} describing the given non-{@code null} optional.
+	 *
+	 * @param optional the optional to describe, which must be non-{@code null}
+	 * @return an {@code ØInt} with a present value if the specified optional
+	 * is present, otherwise an empty {@code ØInt}
+	 * @throws NullPointerException if optional is {@code null}
+	 */
+	public static ØInt of(OptionalInt optional) {
+		Objects.requireNonNull(optional);
+		return optional.isPresent() ? of(optional.getAsInt()) : EMPTY;
+	}
+
+	/**
+	 * Returns an {@code ØInt} describing the given non-{@code null} {@code Ø}.
+	 *
+	 * @param optional the {@code Ø} to describe, which must be non-{@code null}
+	 * @return an {@code ØInt} with a present value if the specified {@code Ø}
+	 * is present, otherwise an empty {@code ØInt}
+	 * @throws NullPointerException if optional is {@code null}
+	 */
+	public static ØInt of(Ø<Integer> optional) {
+		Objects.requireNonNull(optional);
+		return optional.isPresent() ? of(optional.orElseThrow()) : EMPTY;
+	}
+
+	/**
+	 * Translates the alias back to a native {@link OptionalInt}.
+	 *
+	 * @return an {@code OptionalInt} with a present value if the {@code ØInt} value
+	 * is present, otherwise an empty {@code OptionalInt}
+	 */
+	public OptionalInt toOptional() {
+		return isPresent ? OptionalInt.of(value) : OptionalInt.empty();
+	}
+
+	/**
+	 * Returns the boxed {@code Ø} counterpart of this {@code ØInt}.
+	 *
+	 * @return an {@code Ø} with a present value if the {@code ØInt} value
+	 * is present, otherwise an empty {@code Ø}
+	 */
+	public Ø<Integer> boxed() {
+		return isPresent ? Ø.of(value) : Ø.empty();
+	}
+
+	/**
+	 * If a value is present, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if a value is present, otherwise {@code false}
+	 */
+	public boolean isPresent() {
+		return isPresent;
+	}
+
+	/**
+	 * If a value is not present, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if a value is not present, otherwise {@code false}
+	 */
+	public boolean isEmpty() {
+		return !isPresent;
+	}
+
+	/**
+	 * If a value is present, performs the given action with the value, otherwise does nothing.
+	 *
+	 * @param action the action to be performed, if a value is present
+	 * @throws NullPointerException if value is present and the given action is {@code null}
+	 */
+	public void ifPresent(Int₵ action) {
+		if (isPresent) {
+			action.accept(value);
+		}
+	}
+
+	/**
+	 * If a value is present, performs the given action with the value,
+	 * otherwise performs the given empty-based action.
+	 *
+	 * @param action      the action to be performed, if a value is present
+	 * @param emptyAction the empty-based action to be performed, if no value is present
+	 * @throws NullPointerException if a value is present and the given action
+	 *                              is {@code null}, or no value is present and the given empty-based
+	 *                              action is {@code null}.
+	 */
+	public void ifPresentOrElse(Int₵ action, ℝ emptyAction) {
+		if (isPresent) {
+			action.accept(value);
+		}
+		else {
+			emptyAction.run();
+		}
+	}
+
+	/**
+	 * If a value is present, and the value matches the given predicate,
+	 * returns an {@code ØInt} describing the value, otherwise returns an
+	 * empty {@code ØInt}.
+	 *
+	 * @param predicate the predicate to apply to a value, if present
+	 * @return an {@code ØInt} describing the value of this {@code ØInt}, if a value is present
+	 * and the value matches the given predicate, otherwise an empty {@code ØInt}
+	 * @throws NullPointerException if the predicate is {@code null}
+	 */
+	public ØInt filter(Intℙ predicate) {
+		Objects.requireNonNull(predicate);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return predicate.test(value) ? this : EMPTY;
+	}
+
+	/**
+	 * If a value is present, returns an {@code ØInt} describing the result of applying
+	 * the given mapping function to the value, otherwise returns an empty {@code ØInt}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @return an {@code ØInt} describing the result of applying a mapping
+	 * function to the value of this {@code ØInt}, if a value is
+	 * present, otherwise an empty {@code ØInt}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public ØInt map(IntUnaryƒ mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return of(mapper.applyAsInt(value));
+	}
+
+	/**
+	 * If a value is present, returns an {@code Ø} describing (as if by
+	 * {@link Ø#ofNullable}) the result of applying the given mapping function to
+	 * the value, otherwise returns an empty {@code Ø}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @param <U>    The type of the value returned from the mapping function
+	 * @return an {@code Ø} describing the result of applying a mapping
+	 * function to the value of this {@code ØInt}, if a value is
+	 * present, otherwise an empty {@code Ø}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> Ø<U> mapToObj(Intƒ<? extends U> mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return Ø.empty();
+		}
+
+		return Ø.ofNullable(mapper.apply(value));
+	}
+
+	/**
+	 * If a value is present, returns the result of applying the given
+	 * {@code ØInt}-bearing mapping function to the value, otherwise returns
+	 * an empty {@code ØInt}.
+	 *
+	 * <p>This method is similar to {@link #map(IntUnaryƒ)}, but the mapping
+	 * function is one whose result is already an {@code ØInt}, and if
+	 * invoked, {@code flatMap} does not wrap it within an additional
+	 * {@code ØInt}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @return the result of applying an {@code ØInt}-bearing mapping
+	 * function to the value of this {@code ØInt}, if a value is
+	 * present, otherwise an empty {@code ØInt}
+	 * @throws NullPointerException if the mapping function is {@code null} or
+	 *                              returns a {@code null} result
+	 */
+	public ØInt flatMap(Intƒ<? extends ØInt> mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return Objects.requireNonNull(mapper.apply(value));
+	}
+
+	/**
+	 * If a value is present, returns this {@code ØInt}, otherwise returns an
+	 * {@code ØInt} produced by the supplying function.
+	 *
+	 * @param supplier the supplying function that produces an {@code ØInt} to be returned
+	 * @return returns this {@code ØInt}, if a value is present,
+	 * otherwise an {@code ØInt} produced by the supplying function.
+	 * @throws NullPointerException if the supplying function is {@code null} or produces a {@code null} result
+	 */
+	public ØInt or($<? extends ØInt> supplier) {
+		Objects.requireNonNull(supplier);
+
+		if (isPresent) {
+			return this;
+		}
+
+		return Objects.requireNonNull(supplier.get());
+	}
+
+	/**
+	 * If a value is present, returns a sequential {@link IntStream} containing
+	 * only that value, otherwise returns an empty {@code IntStream}.
+	 *
+	 * @return the optional value as an {@code IntStream}
+	 */
+	public IntStream stream() {
+		return isPresent ? IntStream.of(value) : IntStream.empty();
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise returns {@code other}.
+	 *
+	 * @param other the value to be returned, if no value is present
+	 * @return the value, if present, otherwise {@code other}
+	 */
+	public int orElse(int other) {
+		return isPresent ? value : other;
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise returns the result
+	 * produced by the supplying function.
+	 *
+	 * @param supplier the supplying function that produces a value to be returned
+	 * @return the value, if present, otherwise the result produced by the supplying function
+	 * @throws NullPointerException if no value is present and the supplying function is {@code null}
+	 */
+	public int orElseGet(Int$ supplier) {
+		return isPresent ? value : supplier.getAsInt();
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise throws {@code NoSuchElementException}.
+	 *
+	 * @return the value described by this {@code ØInt}
+	 * @throws NoSuchElementException if no value is present
+	 */
+	public int orElseThrow() {
+		if (!isPresent) {
+			throw new NoSuchElementException("No value present");
+		}
+		return value;
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise throws an exception
+	 * produced by the exception supplying function.
+	 *
+	 * @param <X>               Type of the exception to be thrown
+	 * @param exceptionSupplier the supplying function that produces an exception to be thrown
+	 * @return the value, if present
+	 * @throws X                    if no value is present
+	 * @throws NullPointerException if no value is present and the exception supplying function is {@code null}
+	 */
+	public <X extends Throwable> int orElseThrow($<? extends X> exceptionSupplier) throws X {
+		if (!isPresent) {
+			throw exceptionSupplier.get();
+		}
+		return value;
+	}
+
+	/**
+	 * Indicates whether some other object is "equal to" this {@code ØInt}.
+	 * The other object is considered equal if:
+	 * <ul>
+	 * <li>it is also an {@code ØInt} and;
+	 * <li>both instances have no value present or;
+	 * <li>the present values are "equal to" each other via {@code ==}.
+	 * </ul>
+	 *
+	 * @param obj an object to be tested for equality
+	 * @return {@code true} if the other object is "equal to" this object otherwise {@code false}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ØInt)) {
+			return false;
+		}
+
+		ØInt other = (ØInt) obj;
+		return isPresent && other.isPresent
+				? value == other.value
+				: isPresent == other.isPresent;
+	}
+
+	/**
+	 * Returns the hash code of the value, if present, otherwise {@code 0} (zero) if no value is present.
+	 *
+	 * @return hash code value of the present value or {@code 0} if no value is present
+	 */
+	@Override
+	public int hashCode() {
+		return isPresent ? Integer.hashCode(value) : 0;
+	}
+
+	/**
+	 * Returns a non-empty string representation of this {@code ØInt} suitable for debugging.
+	 * The exact presentation format is unspecified and may vary between implementations and versions.
+	 *
+	 * @return the string representation of this instance
+	 */
+	@Override
+	public String toString() {
+		return isPresent
+				? "OptionalInt[" + value + "]"
+				: "OptionalInt.empty";
+	}
+}
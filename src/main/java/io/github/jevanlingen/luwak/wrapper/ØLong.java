@@ -0,0 +1,373 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+import io.github.jevanlingen.luwak.function.$;
+import io.github.jevanlingen.luwak.function.primitive.LongUnaryƒ;
+import io.github.jevanlingen.luwak.function.primitive.Longƒ;
+import io.github.jevanlingen.luwak.function.primitive.Long$;
+import io.github.jevanlingen.luwak.function.primitive.Long₵;
+import io.github.jevanlingen.luwak.function.primitive.Longℙ;
+import io.github.jevanlingen.luwak.function.ℝ;
+
+/**
+ * A container object which may or may not contain a {@code long} value.
+ * This is the primitive specialization of {@link Ø}, the value is kept
+ * in a primitive field and is never boxed.
+ *
+ * @see Ø
+ */
+public final class ØLong {
+	private static final ØLong EMPTY = new ØLong();
+
+	private final boolean isPresent;
+	private final long value;
+
+	private ØLong() {
+		this.isPresent = false;
+		this.value = 0;
+	}
+
+	private ØLong(long value) {
+		this.isPresent = true;
+		this.value = value;
+	}
+
+	/**
+	 * Returns an empty {@code ØLong} instance. No value is present for this optional.
+	 *
+	 * @return an empty {@code ØLong}
+	 */
+	public static ØLong empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns an {@code ØLong} describing the given value.
+	 *
+	 * @param value the value to describe
+	 * @return an {@code ØLong} with the value present
+	 */
+	public static ØLong of(long value) {
+		return new ØLong(value);
+	}
+
+	/**
+	 * Returns an {@code ØLong} describing the given non-{@code null} optional.
+	 *
+	 * @param optional the optional to describe, which must be non-{@code null}
+	 * @return an {@code ØLong} with a present value if the specified optional
+	 * is present, otherwise an empty {@code ØLong}
+	 * @throws NullPointerException if optional is {@code null}
+	 */
+	public static ØLong of(OptionalLong optional) {
+		Objects.requireNonNull(optional);
+		return optional.isPresent() ? of(optional.getAsLong()) : EMPTY;
+	}
+
+	/**
+	 * Returns an {@code ØLong} describing the given non-{@code null} {@code Ø}.
+	 *
+	 * @param optional the {@code Ø} to describe, which must be non-{@code null}
+	 * @return an {@code ØLong} with a present value if the specified {@code Ø}
+	 * is present, otherwise an empty {@code ØLong}
+	 * @throws NullPointerException if optional is {@code null}
+	 */
+	public static ØLong of(Ø<Long> optional) {
+		Objects.requireNonNull(optional);
+		return optional.isPresent() ? of(optional.orElseThrow()) : EMPTY;
+	}
+
+	/**
+	 * Translates the alias back to a native {@link OptionalLong}.
+	 *
+	 * @return an {@code OptionalLong} with a present value if the {@code ØLong} value
+	 * is present, otherwise an empty {@code OptionalLong}
+	 */
+	public OptionalLong toOptional() {
+		return isPresent ? OptionalLong.of(value) : OptionalLong.empty();
+	}
+
+	/**
+	 * Returns the boxed {@code Ø} counterpart of this {@code ØLong}.
+	 *
+	 * @return an {@code Ø} with a present value if the {@code ØLong} value
+	 * is present, otherwise an empty {@code Ø}
+	 */
+	public Ø<Long> boxed() {
+		return isPresent ? Ø.of(value) : Ø.empty();
+	}
+
+	/**
+	 * If a value is present, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if a value is present, otherwise {@code false}
+	 */
+	public boolean isPresent() {
+		return isPresent;
+	}
+
+	/**
+	 * If a value is not present, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if a value is not present, otherwise {@code false}
+	 */
+	public boolean isEmpty() {
+		return !isPresent;
+	}
+
+	/**
+	 * If a value is present, performs the given action with the value, otherwise does nothing.
+	 *
+	 * @param action the action to be performed, if a value is present
+	 * @throws NullPointerException if value is present and the given action is {@code null}
+	 */
+	public void ifPresent(Long₵ action) {
+		if (isPresent) {
+			action.accept(value);
+		}
+	}
+
+	/**
+	 * If a value is present, performs the given action with the value,
+	 * otherwise performs the given empty-based action.
+	 *
+	 * @param action      the action to be performed, if a value is present
+	 * @param emptyAction the empty-based action to be performed, if no value is present
+	 * @throws NullPointerException if a value is present and the given action
+	 *                              is {@code null}, or no value is present and the given empty-based
+	 *                              action is {@code null}.
+	 */
+	public void ifPresentOrElse(Long₵ action, ℝ emptyAction) {
+		if (isPresent) {
+			action.accept(value);
+		}
+		else {
+			emptyAction.run();
+		}
+	}
+
+	/**
+	 * If a value is present, and the value matches the given predicate,
+	 * returns an {@code ØLong} describing the value, otherwise returns an
+	 * empty {@code ØLong}.
+	 *
+	 * @param predicate the predicate to apply to a value, if present
+	 * @return an {@code ØLong} describing the value of this {@code ØLong}, if a value is present
+	 * and the value matches the given predicate, otherwise an empty {@code ØLong}
+	 * @throws NullPointerException if the predicate is {@code null}
+	 */
+	public ØLong filter(Longℙ predicate) {
+		Objects.requireNonNull(predicate);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return predicate.test(value) ? this : EMPTY;
+	}
+
+	/**
+	 * If a value is present, returns an {@code ØLong} describing the result of applying
+	 * the given mapping function to the value, otherwise returns an empty {@code ØLong}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @return an {@code ØLong} describing the result of applying a mapping
+	 * function to the value of this {@code ØLong}, if a value is
+	 * present, otherwise an empty {@code ØLong}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public ØLong map(LongUnaryƒ mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return of(mapper.applyAsLong(value));
+	}
+
+	/**
+	 * If a value is present, returns an {@code Ø} describing (as if by
+	 * {@link Ø#ofNullable}) the result of applying the given mapping function to
+	 * the value, otherwise returns an empty {@code Ø}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @param <U>    The type of the value returned from the mapping function
+	 * @return an {@code Ø} describing the result of applying a mapping
+	 * function to the value of this {@code ØLong}, if a value is
+	 * present, otherwise an empty {@code Ø}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> Ø<U> mapToObj(Longƒ<? extends U> mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return Ø.empty();
+		}
+
+		return Ø.ofNullable(mapper.apply(value));
+	}
+
+	/**
+	 * If a value is present, returns the result of applying the given
+	 * {@code ØLong}-bearing mapping function to the value, otherwise returns
+	 * an empty {@code ØLong}.
+	 *
+	 * <p>This method is similar to {@link #map(LongUnaryƒ)}, but the mapping
+	 * function is one whose result is already an {@code ØLong}, and if
+	 * invoked, {@code flatMap} does not wrap it within an additional
+	 * {@code ØLong}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @return the result of applying an {@code ØLong}-bearing mapping
+	 * function to the value of this {@code ØLong}, if a value is
+	 * present, otherwise an empty {@code ØLong}
+	 * @throws NullPointerException if the mapping function is {@code null} or
+	 *                              returns a {@code null} result
+	 */
+	public ØLong flatMap(Longƒ<? extends ØLong> mapper) {
+		Objects.requireNonNull(mapper);
+
+		if (!isPresent) {
+			return this;
+		}
+
+		return Objects.requireNonNull(mapper.apply(value));
+	}
+
+	/**
+	 * If a value is present, returns this {@code ØLong}, otherwise returns an
+	 * {@code ØLong} produced by the supplying function.
+	 *
+	 * @param supplier the supplying function that produces an {@code ØLong} to be returned
+	 * @return returns this {@code ØLong}, if a value is present,
+	 * otherwise an {@code ØLong} produced by the supplying function.
+	 * @throws NullPointerException if the supplying function is {@code null} or produces a {@code null} result
+	 */
+	public ØLong or($<? extends ØLong> supplier) {
+		Objects.requireNonNull(supplier);
+
+		if (isPresent) {
+			return this;
+		}
+
+		return Objects.requireNonNull(supplier.get());
+	}
+
+	/**
+	 * If a value is present, returns a sequential {@link LongStream} containing
+	 * only that value, otherwise returns an empty {@code LongStream}.
+	 *
+	 * @return the optional value as a {@code LongStream}
+	 */
+	public LongStream stream() {
+		return isPresent ? LongStream.of(value) : LongStream.empty();
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise returns {@code other}.
+	 *
+	 * @param other the value to be returned, if no value is present
+	 * @return the value, if present, otherwise {@code other}
+	 */
+	public long orElse(long other) {
+		return isPresent ? value : other;
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise returns the result
+	 * produced by the supplying function.
+	 *
+	 * @param supplier the supplying function that produces a value to be returned
+	 * @return the value, if present, otherwise the result produced by the supplying function
+	 * @throws NullPointerException if no value is present and the supplying function is {@code null}
+	 */
+	public long orElseGet(Long$ supplier) {
+		return isPresent ? value : supplier.getAsLong();
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise throws {@code NoSuchElementException}.
+	 *
+	 * @return the value described by this {@code ØLong}
+	 * @throws NoSuchElementException if no value is present
+	 */
+	public long orElseThrow() {
+		if (!isPresent) {
+			throw new NoSuchElementException("No value present");
+		}
+		return value;
+	}
+
+	/**
+	 * If a value is present, returns the value, otherwise throws an exception
+	 * produced by the exception supplying function.
+	 *
+	 * @param <X>               Type of the exception to be thrown
+	 * @param exceptionSupplier the supplying function that produces an exception to be thrown
+	 * @return the value, if present
+	 * @throws X                    if no value is present
+	 * @throws NullPointerException if no value is present and the exception supplying function is {@code null}
+	 */
+	public <X extends Throwable> long orElseThrow($<? extends X> exceptionSupplier) throws X {
+		if (!isPresent) {
+			throw exceptionSupplier.get();
+		}
+		return value;
+	}
+
+	/**
+	 * Indicates whether some other object is "equal to" this {@code ØLong}.
+	 * The other object is considered equal if:
+	 * <ul>
+	 * <li>it is also an {@code ØLong} and;
+	 * <li>both instances have no value present or;
+	 * <li>the present values are "equal to" each other via {@code ==}.
+	 * </ul>
+	 *
+	 * @param obj an object to be tested for equality
+	 * @return {@code true} if the other object is "equal to" this object otherwise {@code false}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ØLong)) {
+			return false;
+		}
+
+		ØLong other = (ØLong) obj;
+		return isPresent && other.isPresent
+				? value == other.value
+				: isPresent == other.isPresent;
+	}
+
+	/**
+	 * Returns the hash code of the value, if present, otherwise {@code 0} (zero) if no value is present.
+	 *
+	 * @return hash code value of the present value or {@code 0} if no value is present
+	 */
+	@Override
+	public int hashCode() {
+		return isPresent ? Long.hashCode(value) : 0;
+	}
+
+	/**
+	 * Returns a non-empty string representation of this {@code ØLong} suitable for debugging.
+	 * The exact presentation format is unspecified and may vary between implementations and versions.
+	 *
+	 * @return the string representation of this instance
+	 */
+	@Override
+	public String toString() {
+		return isPresent
+				? "OptionalLong[" + value + "]"
+				: "OptionalLong.empty";
+	}
+}
@@ -0,0 +1,202 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import io.github.jevanlingen.luwak.function.$;
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.₵;
+import io.github.jevanlingen.luwak.function.ℙ;
+
+/**
+ * A deferred {@link Ø} pipeline. The {@code map}, {@code filter} and {@code flatMap} stages are only
+ * recorded, they are evaluated in a single pass when one of the terminal operations is called with an
+ * input value. No intermediate {@code Ø} instances are created while the stages run, and as a view holds
+ * no input of its own, the same instance can be reused for any number of input values.
+ *
+ * <p>Example:</p>
+ * <pre>{@literal ØView<String, Integer> length = Ø.<String>lazy().map(String::trim).filter(s -> !s.isEmpty()).map(String::length);
+ * int result = length.orElse(input, 0);
+ * }</pre>
+ *
+ * <p>A view is immutable, every stage returns a new view and leaves the original untouched.
+ *
+ * @param <T> the type of the input value
+ * @param <R> the type of the resulting value
+ */
+public final class ØView<T, R> {
+	private static final byte MAP = 0;
+	private static final byte FILTER = 1;
+	private static final byte FLAT_MAP = 2;
+
+	private static final ØView<?, ?> IDENTITY = new ØView<>(new byte[0], new Object[0]);
+
+	private final byte[] kinds;
+	private final Object[] stages;
+
+	private ØView(final byte[] kinds, final Object[] stages) {
+		this.kinds = kinds;
+		this.stages = stages;
+	}
+
+	/**
+	 * Returns a view without any stages, applying it to a value describes the value as if by {@link Ø#ofNullable}.
+	 *
+	 * @param <T> the type of the input value
+	 * @return a view without stages
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ØView<T, T> identity() {
+		return (ØView<T, T>) IDENTITY;
+	}
+
+	/**
+	 * Records a mapping stage, see {@link Ø#map(ƒ)}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @param <U>    The type of the value returned from the mapping function
+	 * @return a new view with the mapping stage appended
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> ØView<T, U> map(final ƒ<? super R, ? extends U> mapper) {
+		return append(MAP, Objects.requireNonNull(mapper));
+	}
+
+	/**
+	 * Records a filtering stage, see {@link Ø#filter(ℙ)}.
+	 *
+	 * @param predicate the predicate to apply to a value, if present
+	 * @return a new view with the filtering stage appended
+	 * @throws NullPointerException if the predicate is {@code null}
+	 */
+	public ØView<T, R> filter(final ℙ<? super R> predicate) {
+		return append(FILTER, Objects.requireNonNull(predicate));
+	}
+
+	/**
+	 * Records a {@code Ø}-bearing mapping stage, see {@link Ø#flatMap(ƒ)}.
+	 *
+	 * @param mapper the mapping function to apply to a value, if present
+	 * @param <U>    The type of value of the {@code Ø} returned by the mapping function
+	 * @return a new view with the mapping stage appended
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> ØView<T, U> flatMap(final ƒ<? super R, ? extends Ø<? extends U>> mapper) {
+		return append(FLAT_MAP, Objects.requireNonNull(mapper));
+	}
+
+	/**
+	 * Runs the pipeline for the given input and describes the outcome as an {@code Ø}.
+	 *
+	 * @param input the possibly-{@code null} input value
+	 * @return an {@code Ø} describing the outcome of the pipeline
+	 */
+	public Ø<R> apply(final T input) {
+		return Ø.ofNullable(run(input));
+	}
+
+	/**
+	 * Runs the pipeline for the given input, if it produces a value returns the value, otherwise returns {@code other}.
+	 *
+	 * @param input the possibly-{@code null} input value
+	 * @param other the value to be returned, if no value is produced. May be {@code null}.
+	 * @return the produced value, if present, otherwise {@code other}
+	 */
+	public R orElse(final T input, final R other) {
+		final R result = run(input);
+		return result != null ? result : other;
+	}
+
+	/**
+	 * Runs the pipeline for the given input, if it produces a value returns the value, otherwise returns the result
+	 * produced by the supplying function.
+	 *
+	 * @param input    the possibly-{@code null} input value
+	 * @param supplier the supplying function that produces a value to be returned
+	 * @return the produced value, if present, otherwise the result produced by the supplying function
+	 * @throws NullPointerException if no value is produced and the supplying function is {@code null}
+	 */
+	public R orElseGet(final T input, final $<? extends R> supplier) {
+		final R result = run(input);
+		return result != null ? result : supplier.get();
+	}
+
+	/**
+	 * Runs the pipeline for the given input, if it produces a value returns the value, otherwise throws
+	 * {@code NoSuchElementException}.
+	 *
+	 * @param input the possibly-{@code null} input value
+	 * @return the non-{@code null} produced value
+	 * @throws NoSuchElementException if no value is produced
+	 */
+	public R orElseThrow(final T input) {
+		final R result = run(input);
+		if (result == null) {
+			throw new NoSuchElementException("No value present");
+		}
+		return result;
+	}
+
+	/**
+	 * Runs the pipeline for the given input, if it produces a value returns the value, otherwise throws an exception
+	 * produced by the exception supplying function.
+	 *
+	 * @param <X>               Type of the exception to be thrown
+	 * @param input             the possibly-{@code null} input value
+	 * @param exceptionSupplier the supplying function that produces an exception to be thrown
+	 * @return the produced value, if present
+	 * @throws X                    if no value is produced
+	 * @throws NullPointerException if no value is produced and the exception supplying function is {@code null}
+	 */
+	public <X extends Throwable> R orElseThrow(final T input, final $<? extends X> exceptionSupplier) throws X {
+		final R result = run(input);
+		if (result == null) {
+			throw exceptionSupplier.get();
+		}
+		return result;
+	}
+
+	/**
+	 * Runs the pipeline for the given input, if it produces a value performs the given action with the value,
+	 * otherwise does nothing.
+	 *
+	 * @param input  the possibly-{@code null} input value
+	 * @param action the action to be performed, if a value is produced
+	 * @throws NullPointerException if a value is produced and the given action is {@code null}
+	 */
+	public void ifPresent(final T input, final ₵<? super R> action) {
+		final R result = run(input);
+		if (result != null) {
+			action.accept(result);
+		}
+	}
+
+	private <U> ØView<T, U> append(final byte kind, final Object stage) {
+		final var newKinds = Arrays.copyOf(kinds, kinds.length + 1);
+		final var newStages = Arrays.copyOf(stages, stages.length + 1);
+		newKinds[kinds.length] = kind;
+		newStages[stages.length] = stage;
+		return new ØView<>(newKinds, newStages);
+	}
+
+	@SuppressWarnings("unchecked")
+	private R run(final T input) {
+		Object current = input;
+
+		for (int i = 0; i < kinds.length && current != null; i++) {
+			switch (kinds[i]) {
+				case MAP:
+					current = ((ƒ<Object, Object>) stages[i]).apply(current);
+					break;
+				case FILTER:
+					current = ((ℙ<Object>) stages[i]).test(current) ? current : null;
+					break;
+				default:
+					current = Objects.requireNonNull(((ƒ<Object, Ø<?>>) stages[i]).apply(current)).orElse(null);
+			}
+		}
+
+		return (R) current;
+	}
+}
@@ -1,9 +1,23 @@
 package io.github.jevanlingen.luwak.wrapper;
 
+import static java.util.Collections.unmodifiableList;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 import io.github.jevanlingen.luwak.function.$;
 import io.github.jevanlingen.luwak.function.checked._$;
+import io.github.jevanlingen.luwak.function.checked._ℝ;
 import io.github.jevanlingen.luwak.function.ƒ;
 import io.github.jevanlingen.luwak.function.₵;
 import io.github.jevanlingen.luwak.function.ℙ;
@@ -14,6 +28,15 @@ import io.github.jevanlingen.luwak.function.ℙ;
  * @param <V> The value
  */
 public abstract class Œ<V> {
+	private static final Canonical<Œ<?>> CANONICAL = new Canonical<>(Success::new);
+	private static final Œ<Unit> UNIT = of(Unit.INSTANCE);
+
+	private static volatile int stackTraceSampling = 1;
+
+	private static final Œ<?> DEADLINE_EXCEEDED = new Failure<>(new DeadlineException());
+	private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+	private static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE / 2);
+
 	private Œ() {
 	}
 
@@ -98,10 +121,7 @@ public abstract class Œ<V> {
 	 * otherwise an {@code Œ} produced by the supplying function.
 	 * @throws NullPointerException if the supplying function is {@code null} or produces a {@code null} result
 	 */
-	public Œ<V> or(final $<Œ<V>> supplier) {
-		Objects.requireNonNull(supplier);
-		return map(x -> this).orElseGet(() -> Objects.requireNonNull(supplier.get()));
-	}
+	public abstract Œ<V> or(final $<Œ<V>> supplier);
 
 	/**
 	 * If a value is successful, and the value matches the given predicate,
@@ -114,9 +134,7 @@ public abstract class Œ<V> {
 	 */
 	public Œ<V> filter(final ℙ<V> predicate) {
 		Objects.requireNonNull(predicate);
-		return flatMap(x -> predicate.test(x)
-				? this
-				: failure("Condition did not match"));
+		return filter(predicate, "Condition did not match");
 	}
 
 	/**
@@ -129,20 +147,14 @@ public abstract class Œ<V> {
 	 * if a value is successful and the value matches the given predicate, otherwise a failure {@code Œ}
 	 * @throws NullPointerException if the predicate is {@code null}
 	 */
-	public Œ<V> filter(final ℙ<V> predicate, String errorMessage) {
-		return flatMap(x -> predicate.test(x)
-				? this
-				: failure(errorMessage));
-	}
+	public abstract Œ<V> filter(final ℙ<V> predicate, String errorMessage);
 
 	/**
 	 * If a value is successful, returns {@code true}, otherwise {@code false}.
 	 *
 	 * @return {@code true} if a value is successful, otherwise {@code false}
 	 */
-	public boolean isSuccessFul() {
-		return isSuccessFul(a -> true);
-	}
+	public abstract boolean isSuccessFul();
 
 	/**
 	 * If a value is successful, and the value matches the given predicate,
@@ -151,15 +163,39 @@ public abstract class Œ<V> {
 	 * @param predicate the predicate to apply to a value
 	 * @return {@code true} if a value is successful and matches the given predicate, otherwise {@code false}
 	 */
-	public boolean isSuccessFul(final ℙ<V> predicate) {
-		return map(predicate::test).orElse(false);
-	}
+	public abstract boolean isSuccessFul(final ℙ<V> predicate);
+
+	/**
+	 * Applies the success function to the value if this {@code Œ} is successful, otherwise applies the
+	 * failure function to the failure exception. Branches without creating an intermediate {@code Œ}.
+	 *
+	 * @param onSuccess the function to apply to a successful value
+	 * @param onFailure the function to apply to the failure exception
+	 * @param <R>       the type of the result
+	 * @return the result of the applied function
+	 * @throws NullPointerException if the applied function is {@code null}
+	 */
+	public abstract <R> R fold(final ƒ<? super V, ? extends R> onSuccess, final ƒ<? super RuntimeException, ? extends R> onFailure);
+
+	/**
+	 * Performs the success action with the value if this {@code Œ} is successful, otherwise performs the
+	 * failure action with the failure exception.
+	 *
+	 * @param onSuccess the action to be performed, if a value is successful
+	 * @param onFailure the action to be performed with the failure exception
+	 * @throws NullPointerException if the performed action is {@code null}
+	 */
+	public abstract void match(final ₵<? super V> onSuccess, final ₵<? super RuntimeException> onFailure);
 
 	private static class Failure<V> extends Œ<V> {
 		private final RuntimeException exception;
 
 		private Failure(final String message) {
-			this.exception = new IllegalStateException(message);
+			this.exception = new FailureException(message, null, sampleStackTrace());
+		}
+
+		private Failure(final String message, final boolean stackTrace) {
+			this.exception = new FailureException(message, null, stackTrace);
 		}
 
 		private Failure(final RuntimeException exception) {
@@ -167,7 +203,7 @@ public abstract class Œ<V> {
 		}
 
 		private Failure(final Exception e) {
-			this.exception = new IllegalStateException(e.getMessage(), e);
+			this.exception = new FailureException(e.getMessage(), e, sampleStackTrace());
 		}
 
 		@Override
@@ -181,15 +217,47 @@ public abstract class Œ<V> {
 		}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public <U> Œ<U> map(ƒ<V, U> mapper) {
 			Objects.requireNonNull(mapper);
-			return failure(exception);
+			return (Œ<U>) this;
 		}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public <U> Œ<U> flatMap(ƒ<V, Œ<U>> mapper) {
 			Objects.requireNonNull(mapper);
-			return failure(exception);
+			return (Œ<U>) this;
+		}
+
+		@Override
+		public Œ<V> or($<Œ<V>> supplier) {
+			return Objects.requireNonNull(supplier.get());
+		}
+
+		@Override
+		public Œ<V> filter(ℙ<V> predicate, String errorMessage) {
+			return this;
+		}
+
+		@Override
+		public boolean isSuccessFul() {
+			return false;
+		}
+
+		@Override
+		public boolean isSuccessFul(ℙ<V> predicate) {
+			return false;
+		}
+
+		@Override
+		public <R> R fold(ƒ<? super V, ? extends R> onSuccess, ƒ<? super RuntimeException, ? extends R> onFailure) {
+			return onFailure.apply(exception);
+		}
+
+		@Override
+		public void match(₵<? super V> onSuccess, ₵<? super RuntimeException> onFailure) {
+			onFailure.accept(exception);
 		}
 
 		@Override
@@ -217,6 +285,38 @@ public abstract class Œ<V> {
 		}
 	}
 
+	/**
+	 * The exception of failures created by {@code Œ} itself, it only captures a stack trace when asked to.
+	 */
+	private static final class FailureException extends IllegalStateException {
+		private static final long serialVersionUID = 1L;
+
+		private FailureException(final String message, final Throwable cause, final boolean stackTrace) {
+			super(message, cause);
+			if (stackTrace) {
+				super.fillInStackTrace();
+			}
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+	/**
+	 * The exception of the shared deadline failure. Suppression and the stack trace are disabled, so the single
+	 * instance is immutable and can be handed to every caller that runs out of time. Unlike {@link FailureException}
+	 * it extends {@code RuntimeException}, as {@code IllegalStateException} has no constructor to disable suppression.
+	 */
+	private static final class DeadlineException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private DeadlineException() {
+			super("Deadline exceeded", null, false, false);
+		}
+	}
+
 	private static class Success<V> extends Œ<V> {
 		private final V value;
 
@@ -271,6 +371,48 @@ public abstract class Œ<V> {
 			return Ø.empty();
 		}
 
+		@Override
+		public Œ<V> or($<Œ<V>> supplier) {
+			Objects.requireNonNull(supplier);
+			return this;
+		}
+
+		@Override
+		public Œ<V> filter(ℙ<V> predicate, String errorMessage) {
+			try {
+				return predicate.test(value) ? this : failure(errorMessage);
+			}
+			catch (Exception e) {
+				return failure(e);
+			}
+		}
+
+		@Override
+		public boolean isSuccessFul() {
+			return true;
+		}
+
+		@Override
+		public boolean isSuccessFul(ℙ<V> predicate) {
+			Objects.requireNonNull(predicate);
+			try {
+				return predicate.test(value);
+			}
+			catch (Exception e) {
+				return false;
+			}
+		}
+
+		@Override
+		public <R> R fold(ƒ<? super V, ? extends R> onSuccess, ƒ<? super RuntimeException, ? extends R> onFailure) {
+			return onSuccess.apply(value);
+		}
+
+		@Override
+		public void match(₵<? super V> onSuccess, ₵<? super RuntimeException> onFailure) {
+			onSuccess.accept(value);
+		}
+
 		@Override
 		public String toString() {
 			return "Success (" + value + ")";
@@ -288,6 +430,41 @@ public abstract class Œ<V> {
 		return new Failure<>(errorMessage);
 	}
 
+	/**
+	 * Returns a failure {@code Œ} instance whose exception never captures a stack trace, regardless of
+	 * {@link #setStackTraceSampling(int)}. Use it for expected failures on hot paths.
+	 *
+	 * @param errorMessage the failure message
+	 * @param <V>          The type of the failure
+	 * @return a failure {@code Œ}
+	 */
+	public static <V> Œ<V> stacklessFailure(final String errorMessage) {
+		return new Failure<>(errorMessage, false);
+	}
+
+	/**
+	 * Sets how often the exceptions created by {@code Œ} itself capture their stack trace. This applies to
+	 * {@link #failure(String)}, {@link #filter}, {@link #of(ℙ, Object)} and the wrapping of checked exceptions
+	 * by {@link #doTry(_$)}; exceptions handed to {@code Œ} are left untouched.
+	 *
+	 * <p>{@code 1} (the default) captures every stack trace, {@code 0} captures none and any
+	 * other value {@code n} captures a randomly sampled one in {@code n}.
+	 *
+	 * @param oneInN the sampling rate
+	 * @throws IllegalArgumentException if oneInN is negative
+	 */
+	public static void setStackTraceSampling(final int oneInN) {
+		if (oneInN < 0) {
+			throw new IllegalArgumentException("Sampling rate must not be negative: " + oneInN);
+		}
+		stackTraceSampling = oneInN;
+	}
+
+	private static boolean sampleStackTrace() {
+		final int oneInN = stackTraceSampling;
+		return oneInN == 1 || (oneInN > 1 && ThreadLocalRandom.current().nextInt(oneInN) == 0);
+	}
+
 	/**
 	 * Returns a failure {@code Œ} instance.
 	 *
@@ -314,8 +491,10 @@ public abstract class Œ<V> {
 	 * @return a {@code Œ} with the successful value
 	 * @throws NullPointerException if value is {@code null}
 	 */
+	@SuppressWarnings("unchecked")
 	public static <V> Œ<V> of(final V value) {
-		return new Success<>(value);
+		final Œ<V> canonical = (Œ<V>) CANONICAL.lookup(Objects.requireNonNull(value));
+		return canonical != null ? canonical : new Success<>(value);
 	}
 
 	/**
@@ -351,7 +530,7 @@ public abstract class Œ<V> {
 					: failure(errorMessage);
 		}
 		catch (Exception e) {
-			return failure(new IllegalStateException("Exception while evaluating: " + value, e));
+			return failure(new FailureException("Exception while evaluating: " + value, e, sampleStackTrace()));
 		}
 	}
 
@@ -380,6 +559,12 @@ public abstract class Œ<V> {
 	 */
 	public static <V> Œ<V> doTry(_$<V> supplier) {
 		Objects.requireNonNull(supplier);
+
+		final Long deadline = DEADLINE.get();
+		if (deadline != null && deadline - System.nanoTime() <= 0) {
+			return deadlineExceeded();
+		}
+
 		try {
 			return of(supplier.get());
 		}
@@ -387,4 +572,279 @@ public abstract class Œ<V> {
 			return failure(e);
 		}
 	}
+
+	/**
+	 * Executes supplying function with a time limit, if successful within the limit it returns a {@code Œ} with the
+	 * result of the function, otherwise returns a failure {@code Œ}.
+	 *
+	 * <p>The function runs on the {@linkplain ŒAsync#defaultExecutor() default asynchronous executor}, the caller
+	 * waits at most the given timeout. When the time is up the running function is interrupted and a shared, stackless
+	 * "Deadline exceeded" failure is returned. An error thrown by the function is rethrown, like {@link #doTry(_$)}
+	 * does.
+	 *
+	 * <p>The deadline propagates: inside the function, nested calls of {@code doTry} share the remaining budget. A
+	 * nested {@code doTry(_$, Duration)} never waits beyond the outer deadline, and a nested {@link #doTry(_$)} returns
+	 * the deadline failure without running once the budget is spent. See {@link #deadlineBudget()}.
+	 *
+	 * @param supplier the supplying function that produces an {@code Œ} to be returned
+	 * @param timeout  the maximum time to wait for the result
+	 * @param <V>      the type of the value
+	 * @return a {@code Œ} with the result of the function, otherwise returns a failure {@code Œ}.
+	 * @throws NullPointerException if supplier or timeout is {@code null}
+	 */
+	public static <V> Œ<V> doTry(_$<V> supplier, Duration timeout) {
+		Objects.requireNonNull(supplier);
+		Objects.requireNonNull(timeout);
+
+		final long now = System.nanoTime();
+		final long nanos = timeout.compareTo(MAX_TIMEOUT) > 0 ? MAX_TIMEOUT.toNanos() : timeout.toNanos();
+		final Long outer = DEADLINE.get();
+		final long deadline = outer == null || outer - now > nanos
+				? now + nanos
+				: outer;
+
+		if (deadline - now <= 0) {
+			return deadlineExceeded();
+		}
+
+		final Future<Œ<V>> future;
+		try {
+			future = ŒAsync.DefaultExecutor.INSTANCE.submit(() -> {
+				DEADLINE.set(deadline);
+				try {
+					return doTry(supplier);
+				}
+				finally {
+					DEADLINE.remove();
+				}
+			});
+		}
+		catch (Exception e) {
+			return failure(e);
+		}
+
+		try {
+			return future.get(deadline - now, TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+			future.cancel(true);
+			return deadlineExceeded();
+		}
+		catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			return failure(e);
+		}
+		catch (ExecutionException e) {
+			// like doTry(_$), errors such as an OutOfMemoryError are not turned into a failure
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			return failure(new IllegalStateException(e.getCause()));
+		}
+	}
+
+	/**
+	 * Returns the time left of the deadline set by an enclosing {@link #doTry(_$, Duration)}, for example to
+	 * pass it on as the timeout of a blocking call.
+	 *
+	 * @return an {@code Ø} with the remaining (possibly negative) budget, or an empty {@code Ø} without a deadline
+	 */
+	public static Ø<Duration> deadlineBudget() {
+		final Long deadline = DEADLINE.get();
+		return deadline == null
+				? Ø.empty()
+				: Ø.of(Duration.ofNanos(deadline - System.nanoTime()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <V> Œ<V> deadlineExceeded() {
+		return (Œ<V>) DEADLINE_EXCEEDED;
+	}
+
+	/**
+	 * Executes runnable, if successful it returns a shared successful {@code Œ} holding {@link Unit#INSTANCE},
+	 * otherwise returns a failure {@code Œ}.
+	 *
+	 * @param runnable the runnable to execute
+	 * @return a successful {@code Œ} if the runnable completes normally, otherwise returns a failure {@code Œ}.
+	 * @throws NullPointerException if runnable is {@code null}
+	 */
+	public static Œ<Unit> doRun(_ℝ runnable) {
+		Objects.requireNonNull(runnable);
+		try {
+			runnable.run();
+			return UNIT;
+		}
+		catch (Exception e) {
+			return failure(e);
+		}
+	}
+
+	/**
+	 * If every {@code Œ} in the list is successful, returns a successful {@code Œ} describing an unmodifiable list of
+	 * the values (in the same order), otherwise returns the first failure. Stops at the first failure.
+	 *
+	 * @param list the list of results
+	 * @param <V>  the type of the values
+	 * @return a {@code Œ} with the list of values, otherwise the first failure {@code Œ}
+	 * @throws NullPointerException if the list or any of its inspected elements is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <V> Œ<List<V>> sequence(final List<? extends Œ<? extends V>> list) {
+		Objects.requireNonNull(list);
+
+		final var values = new ArrayList<V>(list.size());
+
+		for (Œ<? extends V> result : list) {
+			if (result instanceof Failure) {
+				return (Œ<List<V>>) result;
+			}
+			values.add(((Success<? extends V>) result).value);
+		}
+
+		return new Success<>(unmodifiableList(values));
+	}
+
+	/**
+	 * If every {@code Œ} in the stream is successful, returns a successful {@code Œ} describing an unmodifiable list
+	 * of the values (in encounter order), otherwise returns the first failure. Stops consuming the stream at the
+	 * first failure.
+	 *
+	 * @param stream the stream of results
+	 * @param <V>    the type of the values
+	 * @return a {@code Œ} with the list of values, otherwise the first failure {@code Œ}
+	 * @throws NullPointerException if the stream or any of its inspected elements is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <V> Œ<List<V>> sequence(final Stream<? extends Œ<? extends V>> stream) {
+		Objects.requireNonNull(stream);
+
+		final var values = new ArrayList<V>();
+		final Iterator<? extends Œ<? extends V>> iterator = stream.iterator();
+
+		while (iterator.hasNext()) {
+			final Œ<? extends V> result = Objects.requireNonNull(iterator.next());
+			if (result instanceof Failure) {
+				return (Œ<List<V>>) result;
+			}
+			values.add(((Success<? extends V>) result).value);
+		}
+
+		return new Success<>(unmodifiableList(values));
+	}
+
+	/**
+	 * Applies the given {@code Œ}-bearing mapping function to every element of the list. If every result is
+	 * successful, returns a successful {@code Œ} describing an unmodifiable list of those values (in the same order),
+	 * otherwise returns the first failure. The remaining elements are not mapped after a failure, an exception thrown
+	 * by the mapping function is turned into a failure.
+	 *
+	 * @param list   the list to be mapped
+	 * @param mapper the {@code Œ}-bearing mapping function to apply to each element
+	 * @param <T>    the type of the elements
+	 * @param <V>    the type of the values
+	 * @return a {@code Œ} with the list of values, otherwise the first failure {@code Œ}
+	 * @throws NullPointerException if either list or mapper are null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, V> Œ<List<V>> traverse(final List<T> list, final ƒ<? super T, ? extends Œ<? extends V>> mapper) {
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(mapper);
+
+		final var values = new ArrayList<V>(list.size());
+
+		for (T t : list) {
+			final Œ<? extends V> result;
+			try {
+				result = Objects.requireNonNull(mapper.apply(t));
+			}
+			catch (Exception e) {
+				return failure(e);
+			}
+			if (result instanceof Failure) {
+				return (Œ<List<V>>) result;
+			}
+			values.add(((Success<? extends V>) result).value);
+		}
+
+		return new Success<>(unmodifiableList(values));
+	}
+
+	/**
+	 * Returns a {@code Collector} that gathers the values of successful {@code Œ} elements into an unmodifiable list,
+	 * in encounter order, or results in the first failure (in encounter order). Once a failure is seen, further
+	 * elements are skipped. The collector is safe to use with parallel streams.
+	 *
+	 * @param <V> the type of the values
+	 * @return a {@code Collector} of {@code Œ} elements
+	 */
+	public static <V> Collector<Œ<? extends V>, ?, Œ<List<V>>> toList() {
+		return toList(10);
+	}
+
+	/**
+	 * Returns a {@code Collector} like {@link #toList()}, which pre-sizes its list to the expected number of elements.
+	 *
+	 * @param expectedSize the expected number of elements
+	 * @param <V>          the type of the values
+	 * @return a {@code Collector} of {@code Œ} elements
+	 * @throws IllegalArgumentException if expectedSize is negative
+	 */
+	public static <V> Collector<Œ<? extends V>, ?, Œ<List<V>>> toList(final int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+		}
+
+		return Collector.of(
+				() -> new Collected<V>(expectedSize),
+				Collected::add,
+				Collected::merge,
+				Collected::finish);
+	}
+
+	/**
+	 * The mutable state of the {@link #toList()} collector.
+	 */
+	private static final class Collected<V> {
+		private final ArrayList<V> values;
+		private Œ<?> failure;
+
+		private Collected(final int expectedSize) {
+			this.values = new ArrayList<>(expectedSize);
+		}
+
+		private void add(final Œ<? extends V> result) {
+			if (failure != null) {
+				return;
+			}
+			if (result instanceof Failure) {
+				failure = result;
+				values.clear();
+			}
+			else {
+				values.add(((Success<? extends V>) Objects.requireNonNull(result)).value);
+			}
+		}
+
+		private Collected<V> merge(final Collected<V> right) {
+			if (failure == null) {
+				if (right.failure != null) {
+					failure = right.failure;
+					values.clear();
+				}
+				else {
+					values.addAll(right.values);
+				}
+			}
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Œ<List<V>> finish() {
+			return failure != null
+					? (Œ<List<V>>) failure
+					: new Success<>(unmodifiableList(values));
+		}
+	}
 }
@@ -0,0 +1,236 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.github.jevanlingen.luwak.function.checked._$;
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.₵;
+import io.github.jevanlingen.luwak.function.ℙ;
+
+/**
+ * Asynchronous result class, eventually holds either a value or an exception.
+ *
+ * <p>The asynchronous counterpart of {@link Œ}: an {@code ŒAsync} is backed by a {@link CompletableFuture} that
+ * always completes normally with a {@code Œ}. Failures are therefore modelled as {@code Œ} failures, never as
+ * {@link CompletionException} wrappers. All transformations are non-blocking, only {@link #join()} waits.
+ *
+ * @param <V> The value
+ */
+public final class ŒAsync<V> {
+	private final CompletableFuture<Œ<V>> future;
+
+	private ŒAsync(final CompletableFuture<Œ<V>> future) {
+		this.future = future;
+	}
+
+	/**
+	 * Executes the supplying function on the {@linkplain #defaultExecutor() default executor}.
+	 *
+	 * @param supplier the supplying function
+	 * @param <V>      the type of the value
+	 * @return a {@code ŒAsync} that completes with the result of the function, or a failure
+	 * @throws NullPointerException if supplier is {@code null}
+	 */
+	public static <V> ŒAsync<V> doTry(final _$<V> supplier) {
+		return doTry(supplier, defaultExecutor());
+	}
+
+	/**
+	 * Executes the supplying function on the given executor.
+	 *
+	 * @param supplier the supplying function
+	 * @param executor the executor to run the function on
+	 * @param <V>      the type of the value
+	 * @return a {@code ŒAsync} that completes with the result of the function, or a failure
+	 * (also when the executor rejects the function)
+	 * @throws NullPointerException if supplier or executor is {@code null}
+	 */
+	public static <V> ŒAsync<V> doTry(final _$<V> supplier, final Executor executor) {
+		Objects.requireNonNull(supplier);
+		Objects.requireNonNull(executor);
+		try {
+			return new ŒAsync<>(CompletableFuture.supplyAsync(() -> Œ.doTry(supplier), executor));
+		}
+		catch (Exception e) {
+			return of(Œ.failure(e));
+		}
+	}
+
+	/**
+	 * Returns an already completed {@code ŒAsync} holding the given result.
+	 *
+	 * @param result the result
+	 * @param <V>    the type of the value
+	 * @return a completed {@code ŒAsync}
+	 * @throws NullPointerException if result is {@code null}
+	 */
+	public static <V> ŒAsync<V> of(final Œ<V> result) {
+		return new ŒAsync<>(CompletableFuture.completedFuture(Objects.requireNonNull(result)));
+	}
+
+	/**
+	 * Converts a completion stage to a {@code ŒAsync}. An exceptional completion becomes a failure holding
+	 * the original exception (unwrapped from {@link CompletionException}), a {@code null} value becomes a failure too.
+	 *
+	 * @param stage the completion stage
+	 * @param <V>   the type of the value
+	 * @return a {@code ŒAsync} that completes when the stage completes
+	 * @throws NullPointerException if stage is {@code null}
+	 */
+	public static <V> ŒAsync<V> fromFuture(final CompletionStage<V> stage) {
+		Objects.requireNonNull(stage);
+		return new ŒAsync<>(stage.handle((value, throwable) -> throwable == null
+				? Œ.ofNullable(value, "Future completed with null")
+				: Œ.<V>failure(unwrap(throwable))).toCompletableFuture());
+	}
+
+	/**
+	 * Returns the executor used by {@link #doTry(_$)}: a virtual thread per task executor when the
+	 * runtime supports virtual threads, otherwise a cached pool of daemon threads. Both suit blocking suppliers.
+	 *
+	 * @return the default executor
+	 */
+	public static Executor defaultExecutor() {
+		return DefaultExecutor.INSTANCE;
+	}
+
+	/**
+	 * Returns a {@code ŒAsync} that completes with the result of applying the given mapping function to
+	 * the successful value, see {@link Œ#map(ƒ)}.
+	 *
+	 * @param mapper the mapping function to apply to a value
+	 * @param <U>    The type of the value returned from the mapping function
+	 * @return the mapped {@code ŒAsync}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	public <U> ŒAsync<U> map(final ƒ<V, U> mapper) {
+		Objects.requireNonNull(mapper);
+		return new ŒAsync<>(future.thenApply(result -> result.map(mapper)));
+	}
+
+	/**
+	 * Returns a {@code ŒAsync} that completes with the result of the {@code ŒAsync}-bearing mapping function
+	 * applied to the successful value, otherwise with the failure of this {@code ŒAsync}.
+	 *
+	 * @param mapper the mapping function to apply to a value
+	 * @param <U>    The type of value of the {@code ŒAsync} returned by the mapping function
+	 * @return the mapped {@code ŒAsync}
+	 * @throws NullPointerException if the mapping function is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> ŒAsync<U> flatMap(final ƒ<V, ŒAsync<U>> mapper) {
+		Objects.requireNonNull(mapper);
+		return new ŒAsync<>(future.thenCompose(result -> result.fold(value -> {
+			try {
+				return Objects.requireNonNull(mapper.apply(value)).future;
+			}
+			catch (Exception e) {
+				return CompletableFuture.completedFuture(Œ.failure(e));
+			}
+		}, exception -> CompletableFuture.completedFuture((Œ<U>) result))));
+	}
+
+	/**
+	 * Returns a {@code ŒAsync} that completes with a failure if the successful value does not match
+	 * the given predicate, see {@link Œ#filter(ℙ)}.
+	 *
+	 * @param predicate the predicate to apply to a value
+	 * @return the filtered {@code ŒAsync}
+	 * @throws NullPointerException if the predicate is {@code null}
+	 */
+	public ŒAsync<V> filter(final ℙ<V> predicate) {
+		Objects.requireNonNull(predicate);
+		return new ŒAsync<>(future.thenApply(result -> result.filter(predicate)));
+	}
+
+	/**
+	 * Performs the given action with the result once it is available.
+	 *
+	 * @param action the action to be performed with the result
+	 * @return this {@code ŒAsync}
+	 * @throws NullPointerException if the given action is {@code null}
+	 */
+	public ŒAsync<V> onComplete(final ₵<Œ<V>> action) {
+		Objects.requireNonNull(action);
+		future.thenAccept(action);
+		return this;
+	}
+
+	/**
+	 * Waits for the result and returns it.
+	 *
+	 * @return the result
+	 */
+	public Œ<V> join() {
+		return future.join();
+	}
+
+	/**
+	 * Returns whether the result is available.
+	 *
+	 * @return {@code true} if the result is available, otherwise {@code false}
+	 */
+	public boolean isDone() {
+		return future.isDone();
+	}
+
+	/**
+	 * Translates this {@code ŒAsync} to a {@link CompletableFuture} holding the {@code Œ}, it never completes
+	 * exceptionally. Completing the returned future does not affect this {@code ŒAsync}.
+	 *
+	 * @return a {@code CompletableFuture} of the result
+	 */
+	public CompletableFuture<Œ<V>> toCompletableFuture() {
+		return future.copy();
+	}
+
+	/**
+	 * Translates this {@code ŒAsync} to a {@link CompletableFuture} holding the plain value, a failure
+	 * completes the returned future exceptionally with the failure exception.
+	 *
+	 * @return a {@code CompletableFuture} of the value
+	 */
+	public CompletableFuture<V> toValueFuture() {
+		return future.thenCompose(result -> result.fold(CompletableFuture::completedFuture, CompletableFuture::failedFuture));
+	}
+
+	@Override
+	public String toString() {
+		return future.isDone() ? "Async " + future.join() : "Async (pending)";
+	}
+
+	private static Exception unwrap(final Throwable throwable) {
+		Throwable cause = throwable;
+		while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause);
+	}
+
+	/**
+	 * Lazily creates the default executor, only on first use.
+	 */
+	static final class DefaultExecutor {
+		static final ExecutorService INSTANCE = create();
+
+		private static ExecutorService create() {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			}
+			catch (ReflectiveOperationException e) {
+				return Executors.newCachedThreadPool(runnable -> {
+					final var thread = new Thread(runnable, "luwak-async");
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+		}
+	}
+}
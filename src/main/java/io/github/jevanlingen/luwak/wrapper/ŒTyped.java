@@ -0,0 +1,309 @@
+package io.github.jevanlingen.luwak.wrapper;
+
+import java.util.Objects;
+
+import io.github.jevanlingen.luwak.function.$;
+import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.function.₵;
+
+/**
+ * Result class with a typed error channel, holds either a value or an error.
+ *
+ * <p>Unlike {@link Œ}, whose failures are always a {@link RuntimeException}, the error of a {@code ŒTyped} can be
+ * any value, typically an enum constant or a small immutable class describing an expected business outcome. Failures
+ * with an enum constant, {@code Boolean} or small {@code Integer} error are shared instances, so returning one does not
+ * allocate.
+ *
+ * @param <E> The error type
+ * @param <V> The value
+ */
+public abstract class ŒTyped<E, V> {
+	private static final Canonical<ŒTyped<?, ?>> SUCCESSES = new Canonical<>(Success::new);
+	private static final Canonical<ŒTyped<?, ?>> FAILURES = new Canonical<>(Failure::new);
+
+	private ŒTyped() {
+	}
+
+	/**
+	 * If successful, returns {@code true}, otherwise {@code false}.
+	 *
+	 * @return {@code true} if successful, otherwise {@code false}
+	 */
+	public abstract boolean isSuccessFul();
+
+	/**
+	 * Returns the error, if this is a failure.
+	 *
+	 * @return an {@code Ø} with the error, or an empty {@code Ø} if successful
+	 */
+	public abstract Ø<E> error();
+
+	/**
+	 * If successful, returns the value, otherwise returns {@code other}.
+	 *
+	 * @param other the value to be returned, if a failure. May be {@code null}.
+	 * @return the value, if successful, otherwise {@code other}
+	 */
+	public abstract V orElse(final V other);
+
+	/**
+	 * If successful, returns the value, otherwise returns the result of applying the given function to the error.
+	 *
+	 * @param mapper the function that produces a value from the error
+	 * @return the value, if successful, otherwise the result produced by the function
+	 * @throws NullPointerException if a failure and the function is {@code null}
+	 */
+	public abstract V orElseGet(final ƒ<? super E, ? extends V> mapper);
+
+	/**
+	 * If successful, returns a {@code ŒTyped} describing the result of applying the given mapping function to
+	 * the value, otherwise returns this failure.
+	 *
+	 * @param mapper the mapping function to apply to a value
+	 * @param <U>    The type of the value returned from the mapping function
+	 * @return the mapped {@code ŒTyped} if successful, otherwise this failure
+	 * @throws NullPointerException if the mapping function is {@code null} or returns a {@code null} result
+	 */
+	public abstract <U> ŒTyped<E, U> map(final ƒ<? super V, ? extends U> mapper);
+
+	/**
+	 * If successful, returns the result of applying the given {@code ŒTyped}-bearing mapping function to the value,
+	 * otherwise returns this failure.
+	 *
+	 * @param mapper the mapping function to apply to a value
+	 * @param <U>    The type of value of the {@code ŒTyped} returned by the mapping function
+	 * @return the result of the mapping function if successful, otherwise this failure
+	 * @throws NullPointerException if the mapping function is {@code null} or returns a {@code null} result
+	 */
+	public abstract <U> ŒTyped<E, U> flatMap(final ƒ<? super V, ? extends ŒTyped<E, ? extends U>> mapper);
+
+	/**
+	 * If a failure, returns a failure with the result of applying the given mapping function to the error,
+	 * otherwise returns this success.
+	 *
+	 * @param mapper the mapping function to apply to the error
+	 * @param <F>    The type of the error returned from the mapping function
+	 * @return the failure with the mapped error, otherwise this success
+	 * @throws NullPointerException if the mapping function is {@code null} or returns a {@code null} result
+	 */
+	public abstract <F> ŒTyped<F, V> mapError(final ƒ<? super E, ? extends F> mapper);
+
+	/**
+	 * Applies the success function to the value if successful, otherwise applies the failure function to the error.
+	 *
+	 * @param onSuccess the function to apply to a successful value
+	 * @param onFailure the function to apply to the error
+	 * @param <R>       the type of the result
+	 * @return the result of the applied function
+	 * @throws NullPointerException if the applied function is {@code null}
+	 */
+	public abstract <R> R fold(final ƒ<? super V, ? extends R> onSuccess, final ƒ<? super E, ? extends R> onFailure);
+
+	/**
+	 * If successful, performs the given action with the value, otherwise does nothing.
+	 *
+	 * @param action the action to be performed, if successful
+	 * @throws NullPointerException if successful and the given action is {@code null}
+	 */
+	public abstract void ifSuccessful(final ₵<? super V> action);
+
+	/**
+	 * Converts this result to a {@code Œ}, the error of a failure is turned into an exception by the given function.
+	 *
+	 * @param toException the function that turns the error into an exception
+	 * @return a successful {@code Œ} if successful, otherwise a failure {@code Œ}
+	 * @throws NullPointerException if a failure and the function is {@code null}
+	 */
+	public Œ<V> toŒ(final ƒ<? super E, ? extends Exception> toException) {
+		return fold(Œ::of, error -> Œ.failure(toException.apply(error)));
+	}
+
+	/**
+	 * Converts this result to a {@code Œ}, the error of a failure becomes the message of a stackless failure.
+	 *
+	 * @return a successful {@code Œ} if successful, otherwise a failure {@code Œ}
+	 */
+	public Œ<V> toŒ() {
+		return fold(Œ::of, error -> Œ.stacklessFailure(String.valueOf(error)));
+	}
+
+	/**
+	 * Returns a successful {@code ŒTyped} describing the given non-{@code null} value.
+	 *
+	 * @param value the value to describe, which must be non-{@code null}
+	 * @param <E>   the type of the error
+	 * @param <V>   the type of the value
+	 * @return a successful {@code ŒTyped}
+	 * @throws NullPointerException if value is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E, V> ŒTyped<E, V> success(final V value) {
+		final ŒTyped<E, V> canonical = (ŒTyped<E, V>) SUCCESSES.lookup(Objects.requireNonNull(value));
+		return canonical != null ? canonical : new Success<>(value);
+	}
+
+	/**
+	 * Returns a failure {@code ŒTyped} holding the given non-{@code null} error.
+	 *
+	 * @param error the error, which must be non-{@code null}
+	 * @param <E>   the type of the error
+	 * @param <V>   the type of the value
+	 * @return a failure {@code ŒTyped}
+	 * @throws NullPointerException if error is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E, V> ŒTyped<E, V> failure(final E error) {
+		final ŒTyped<E, V> canonical = (ŒTyped<E, V>) FAILURES.lookup(Objects.requireNonNull(error));
+		return canonical != null ? canonical : new Failure<>(error);
+	}
+
+	/**
+	 * Returns a {@code ŒTyped} describing the given value, if non-{@code null}, otherwise returns a failure
+	 * {@code ŒTyped} holding the given error.
+	 *
+	 * @param value the possibly-{@code null} value to describe
+	 * @param error the error if the value is {@code null}
+	 * @param <E>   the type of the error
+	 * @param <V>   the type of the value
+	 * @return a successful {@code ŒTyped} if the value is non-{@code null}, otherwise a failure {@code ŒTyped}
+	 * @throws NullPointerException if the value and error are both {@code null}
+	 */
+	public static <E, V> ŒTyped<E, V> ofNullable(final V value, final E error) {
+		return value == null ? failure(error) : success(value);
+	}
+
+	/**
+	 * Converts a {@code Œ} to a {@code ŒTyped}, the exception of a failure becomes the error.
+	 *
+	 * @param result the result to convert
+	 * @param <V>    the type of the value
+	 * @return a successful {@code ŒTyped} if successful, otherwise a failure {@code ŒTyped}
+	 * @throws NullPointerException if result is {@code null}
+	 */
+	public static <V> ŒTyped<RuntimeException, V> fromŒ(final Œ<V> result) {
+		return result.fold(ŒTyped::success, ŒTyped::failure);
+	}
+
+	private static class Success<E, V> extends ŒTyped<E, V> {
+		private final V value;
+
+		private Success(final V value) {
+			this.value = Objects.requireNonNull(value);
+		}
+
+		@Override
+		public boolean isSuccessFul() {
+			return true;
+		}
+
+		@Override
+		public Ø<E> error() {
+			return Ø.empty();
+		}
+
+		@Override
+		public V orElse(V other) {
+			return value;
+		}
+
+		@Override
+		public V orElseGet(ƒ<? super E, ? extends V> mapper) {
+			return value;
+		}
+
+		@Override
+		public <U> ŒTyped<E, U> map(ƒ<? super V, ? extends U> mapper) {
+			return success(mapper.apply(value));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U> ŒTyped<E, U> flatMap(ƒ<? super V, ? extends ŒTyped<E, ? extends U>> mapper) {
+			return (ŒTyped<E, U>) Objects.requireNonNull(mapper.apply(value));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <F> ŒTyped<F, V> mapError(ƒ<? super E, ? extends F> mapper) {
+			Objects.requireNonNull(mapper);
+			return (ŒTyped<F, V>) this;
+		}
+
+		@Override
+		public <R> R fold(ƒ<? super V, ? extends R> onSuccess, ƒ<? super E, ? extends R> onFailure) {
+			return onSuccess.apply(value);
+		}
+
+		@Override
+		public void ifSuccessful(₵<? super V> action) {
+			action.accept(value);
+		}
+
+		@Override
+		public String toString() {
+			return "Success (" + value + ")";
+		}
+	}
+
+	private static class Failure<E, V> extends ŒTyped<E, V> {
+		private final E error;
+
+		private Failure(final E error) {
+			this.error = Objects.requireNonNull(error);
+		}
+
+		@Override
+		public boolean isSuccessFul() {
+			return false;
+		}
+
+		@Override
+		public Ø<E> error() {
+			return Ø.of(error);
+		}
+
+		@Override
+		public V orElse(V other) {
+			return other;
+		}
+
+		@Override
+		public V orElseGet(ƒ<? super E, ? extends V> mapper) {
+			return mapper.apply(error);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U> ŒTyped<E, U> map(ƒ<? super V, ? extends U> mapper) {
+			Objects.requireNonNull(mapper);
+			return (ŒTyped<E, U>) this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U> ŒTyped<E, U> flatMap(ƒ<? super V, ? extends ŒTyped<E, ? extends U>> mapper) {
+			Objects.requireNonNull(mapper);
+			return (ŒTyped<E, U>) this;
+		}
+
+		@Override
+		public <F> ŒTyped<F, V> mapError(ƒ<? super E, ? extends F> mapper) {
+			return failure(mapper.apply(error));
+		}
+
+		@Override
+		public <R> R fold(ƒ<? super V, ? extends R> onSuccess, ƒ<? super E, ? extends R> onFailure) {
+			return onFailure.apply(error);
+		}
+
+		@Override
+		public void ifSuccessful(₵<? super V> action) {
+			Objects.requireNonNull(action);
+		}
+
+		@Override
+		public String toString() {
+			return "Failure (" + error + ")";
+		}
+	}
+}
@@ -1,18 +1,42 @@
 package io.github.jevanlingen.luwak;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import io.github.jevanlingen.luwak.function.ƒ;
 import io.github.jevanlingen.luwak.function.ℙ;
 import io.github.jevanlingen.luwak.util.Do;
+import io.github.jevanlingen.luwak.util.Line;
+import io.github.jevanlingen.luwak.util.PersistentSet;
+import io.github.jevanlingen.luwak.util.PersistentVector;
+import io.github.jevanlingen.luwak.wrapper.Ø;
 
 public class DoTest {
 	@Test
@@ -185,6 +209,645 @@ public class DoTest {
 		assertEquals(old.get(), now.get());
 	}
 
+	@Test
+	void testMapØList() {
+		final var list = List.of(new SubTester("A"), new SubTester("B"), new SubTester("C"));
+
+		final ƒ<SubTester, Ø<String>> mapper = a -> "B".equals(a.getName()) ? Ø.empty() : Ø.of(a.getName());
+		final var old = list.stream().map(mapper).flatMap(Ø::stream).collect(Collectors.toUnmodifiableList());
+		final var now = Do.mapØ(list, mapper);
+
+		assertEquals(old, now);
+	}
+
+	@Test
+	void testFlattenList() {
+		final var list = List.of(Ø.of("A"), Ø.<String>empty(), Ø.of("C"));
+
+		final var old = list.stream().flatMap(Ø::stream).collect(Collectors.toUnmodifiableList());
+		final var now = Do.flatten(list);
+
+		assertEquals(old, now);
+	}
+
+	@Test
+	void testMapØSet() {
+		final var set = Set.of(new SubTester("A"), new SubTester("B"), new SubTester("C"));
+
+		final ƒ<SubTester, Ø<String>> mapper = a -> "B".equals(a.getName()) ? Ø.empty() : Ø.of(a.getName());
+		final var old = set.stream().map(mapper).flatMap(Ø::stream).collect(Collectors.toUnmodifiableSet());
+		final var now = Do.mapØ(set, mapper);
+
+		assertEquals(old, now);
+	}
+
+	@Test
+	void testFlattenSet() {
+		final var set = Set.of(Ø.of("A"), Ø.<String>empty(), Ø.of("C"));
+
+		final var old = set.stream().flatMap(Ø::stream).collect(Collectors.toUnmodifiableSet());
+		final var now = Do.flatten(set);
+
+		assertEquals(old, now);
+	}
+
+	@Test
+	void testFilterListKeepingEverythingReturnsImmutableSource() {
+		final var list = List.of("A", "B", "C");
+
+		assertSame(list, Do.filter(list, s -> true));
+		final var mapped = Do.map(list, String::toLowerCase);
+		assertSame(mapped, Do.filter(mapped, s -> true));
+	}
+
+	@Test
+	void testFilterListCopiesMutableSource() {
+		final var source = new ArrayList<>(List.of("A", "B", "C"));
+
+		final var now = Do.filter(source, s -> true);
+		source.clear();
+
+		assertEquals(List.of("A", "B", "C"), now);
+		assertThrows(UnsupportedOperationException.class, () -> now.add("D"));
+	}
+
+	@Test
+	void testListResultsAreCompactAndImmutable() {
+		for (int size = 0; size < 5; size++) {
+			final var source = new LinkedList<Integer>();
+			for (int i = 0; i < size; i++) {
+				source.add(i);
+			}
+
+			final var old = source.stream().map(i -> i * 2).filter(i -> i != 2).collect(Collectors.toList());
+			final var now = Do.filter(Do.map(source, i -> i * 2), i -> i != 2);
+
+			assertEquals(old, now);
+			assertEquals(old.hashCode(), now.hashCode());
+			assertThrows(UnsupportedOperationException.class, () -> now.add(1));
+		}
+	}
+
+	@Test
+	void testMapListPermitsNull() {
+		final var now = Do.map(List.of("A", "B", "C"), s -> "B".equals(s) ? null : s);
+
+		assertEquals(Arrays.asList("A", null, "C"), now);
+		assertTrue(now.contains(null));
+	}
+
+	@Test
+	void testSetResultsAreCompactAndImmutable() {
+		final var set = Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+		final var old = set.stream().map(i -> i % 4).collect(Collectors.toSet());
+		final var now = Do.map(set, i -> i % 4);
+
+		assertEquals(old, now);
+		assertEquals(now, old);
+		assertEquals(old.hashCode(), now.hashCode());
+		assertEquals(4, now.size());
+		assertTrue(now.contains(3));
+		assertFalse(now.contains(4));
+		assertThrows(UnsupportedOperationException.class, () -> now.add(4));
+		assertSame(now, Do.filter(now, i -> true));
+		assertEquals(Set.of(0, 2), Do.filter(now, i -> i % 2 == 0));
+	}
+
+	@Test
+	void testParMapList() {
+		final var list = IntStream.range(0, 10_000).boxed().collect(Collectors.toCollection(LinkedList::new));
+
+		final var old = list.stream().map(i -> i * 2).collect(Collectors.toUnmodifiableList());
+		final var now = Do.parMap(list, i -> i * 2);
+
+		assertEquals(old, now);
+		assertThrows(UnsupportedOperationException.class, () -> now.add(1));
+	}
+
+	@Test
+	void testParFilterListOnCustomPool() {
+		final var pool = new ForkJoinPool(4);
+		try {
+			final var list = IntStream.range(0, 10_000).boxed().collect(Collectors.toUnmodifiableList());
+
+			final ℙ<Integer> predicate = i -> i % 3 == 0;
+			final var old = list.stream().filter(predicate).collect(Collectors.toUnmodifiableList());
+			final var now = Do.parFilter(list, predicate, pool);
+
+			assertEquals(old, now);
+			assertSame(list, Do.parFilter(list, i -> true, pool));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testParAnyMatchAndFindAnyOnList() {
+		final var list = IntStream.range(0, 10_000).boxed().collect(Collectors.toUnmodifiableList());
+
+		assertTrue(Do.parAnyMatch(list, i -> i == 9_999));
+		assertFalse(Do.parAnyMatch(list, i -> i < 0));
+		assertEquals(Ø.of(5_000), Do.parFindAny(list, i -> i == 5_000));
+		assertTrue(Do.parFindAny(list, i -> i > 100).filter(i -> i > 100).isPresent());
+		assertTrue(Do.parFindAny(list, i -> i < 0).isEmpty());
+	}
+
+	@Test
+	void testParFindAnyStopsEarly() {
+		final var pool = new ForkJoinPool(2);
+		try {
+			final var tested = new AtomicInteger();
+			final var list = IntStream.range(0, 100_000).boxed().collect(Collectors.toUnmodifiableList());
+
+			final var now = Do.parFindAny(list, i -> tested.incrementAndGet() > 0, pool);
+
+			assertTrue(now.isPresent());
+			assertTrue(tested.get() < list.size());
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testParMapAndFilterSet() {
+		final var set = IntStream.range(0, 10_000).boxed().collect(Collectors.toSet());
+
+		final var old = set.stream().map(i -> i % 100).filter(i -> i % 2 == 0).collect(Collectors.toUnmodifiableSet());
+		final var now = Do.parFilter(Do.parMap(set, i -> i % 100), i -> i % 2 == 0);
+
+		assertEquals(old, now);
+		assertTrue(Do.parAnyMatch(set, i -> i == 42));
+		assertEquals(Ø.of(42), Do.parFindAny(set, i -> i == 42));
+	}
+
+	@Test
+	void testParallelRunsSmallInputsSequentially() {
+		final var caller = Thread.currentThread();
+		final var pool = new ForkJoinPool(4);
+
+		try {
+			assertEquals(List.of(caller, caller), Do.parMap(List.of(1, 2), i -> Thread.currentThread(), pool));
+			assertTrue(Do.parAnyMatch(Set.of(1, 2, 3), i -> Thread.currentThread() == caller, pool));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testParMapPropagatesException() {
+		final var list = IntStream.range(0, 10_000).boxed().collect(Collectors.toUnmodifiableList());
+
+		assertThrows(IllegalArgumentException.class, () -> Do.parMap(list, i -> {
+			if (i == 7_777) {
+				throw new IllegalArgumentException("Boom");
+			}
+			return i;
+		}));
+	}
+
+	@Test
+	void testMapAndFilterIntArray() {
+		final int[] array = { 1, 2, 3, 4, 5 };
+
+		final var old = IntStream.of(array).map(i -> i * 10).filter(i -> i > 20).toArray();
+		final var now = Do.filter(Do.map(array, i -> i * 10), i -> i > 20);
+
+		assertArrayEquals(old, now);
+		assertArrayEquals(new int[] { 1, 2, 3, 4, 5 }, array);
+	}
+
+	@Test
+	void testAnyMatchAndFindAnyOnPrimitiveArrays() {
+		assertTrue(Do.anyMatch(new long[] { 1L, 2L, 3L }, l -> l == 3L));
+		assertFalse(Do.anyMatch(new double[] { 0.5, 1.5 }, d -> d > 2.0));
+		assertEquals(2, Do.findAny(new int[] { 1, 2, 3 }, i -> i % 2 == 0).orElseThrow());
+		assertEquals(1.5, Do.findAny(new double[] { 0.5, 1.5 }, d -> d > 1.0).orElseThrow());
+		assertFalse(Do.findAny(new long[0], l -> true).isPresent());
+	}
+
+	@Test
+	void testMapLongAndDoubleArray() {
+		assertArrayEquals(new long[] { 2L, 4L }, Do.map(new long[] { 1L, 2L }, l -> l * 2));
+		assertArrayEquals(new double[] { 0.25 }, Do.filter(Do.map(new double[] { 1.0, 0.5 }, d -> d * d), d -> d < 1.0));
+	}
+
+	@Test
+	void testMapToPrimitiveArrays() {
+		final var list = new LinkedList<>(List.of(new SubTester("A"), new SubTester("BB"), new SubTester("CCC")));
+
+		assertArrayEquals(list.stream().mapToInt(t -> t.getName().length()).toArray(), Do.mapToInt(list, t -> t.getName().length()));
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, Do.mapToLong(List.copyOf(list), t -> t.getName().length()));
+		assertArrayEquals(new double[] { 0.5, 1.0, 1.5 }, Do.mapToDouble(list, t -> t.getName().length() / 2.0));
+	}
+
+	@Test
+	void testMapValuesAndKeys() {
+		final var map = Map.of("a", 1, "b", 2, "c", 3);
+
+		final var oldValues = map.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue() * 10));
+		final var oldKeys = map.entrySet().stream().collect(Collectors.toMap(e -> e.getKey().toUpperCase(), Map.Entry::getValue));
+
+		assertEquals(oldValues, Do.mapValues(map, v -> v * 10));
+		assertEquals(oldKeys, Do.mapKeys(map, String::toUpperCase));
+		assertThrows(IllegalStateException.class, () -> Do.mapKeys(map, k -> "same"));
+
+		final var withNulls = new HashMap<String, Integer>();
+		withNulls.put("a", null);
+		withNulls.put("b", null);
+		assertThrows(IllegalStateException.class, () -> Do.mapKeys(withNulls, k -> "same"));
+		assertThrows(UnsupportedOperationException.class, () -> Do.mapValues(map, v -> v).put("d", 4));
+	}
+
+	@Test
+	void testFilterKeysAndValues() {
+		final var map = Map.of("a", 1, "b", 2, "c", 3);
+
+		assertEquals(Map.of("a", 1), Do.filterKeys(map, "a"::equals));
+		assertEquals(Map.of("b", 2), Do.filterValues(map, v -> v % 2 == 0));
+		assertEquals(Map.of(), Do.filterValues(map, v -> v > 3));
+	}
+
+	@Test
+	void testAnyMatchAndFindAnyOnMap() {
+		final var map = Map.of("a", 1, "b", 2);
+
+		assertTrue(Do.anyMatch(map, e -> e.getValue() == 2));
+		assertFalse(Do.anyMatch(map, e -> e.getValue() == 3));
+		assertEquals("b", Do.findAny(map, e -> e.getValue() == 2).map(Map.Entry::getKey).orElseThrow());
+		assertTrue(Do.findAny(map, e -> e.getValue() == 3).isEmpty());
+	}
+
+	@Test
+	void testGetFromMap() {
+		final var map = Map.of("a", 1);
+
+		assertEquals(Ø.of(1), Do.get(map, "a"));
+		assertSame(Ø.empty(), Do.get(map, "b"));
+	}
+
+	@Test
+	void testPipelineToList() {
+		final var list = List.of(new SubTester("A"), new SubTester(" "), new SubTester("CC"), new SubTester("D"));
+
+		final ƒ<String, Ø<Integer>> mapper = s -> s.length() > 1 ? Ø.empty() : Ø.of(s.length());
+		final var old = list.stream().map(SubTester::getName).filter(s -> !s.isBlank()).map(mapper).flatMap(Ø::stream).collect(Collectors.toUnmodifiableList());
+		final var now = Do.from(list).map(SubTester::getName).filter(s -> !s.isBlank()).mapØ(mapper).toList();
+
+		assertEquals(old, now);
+		assertEquals(Do.mapØ(Do.filter(Do.map(list, SubTester::getName), s -> !s.isBlank()), mapper), now);
+	}
+
+	@Test
+	void testPipelineToSetAndNullElements() {
+		final var source = new LinkedList<>(List.of("a", "b", "c", "A"));
+
+		assertEquals(Set.of("A", "B", "C"), Do.from(source).map(String::toUpperCase).toSet());
+		assertEquals(Arrays.asList("a", null), Do.from(List.of("a", "b")).map(s -> "b".equals(s) ? null : s).toList());
+	}
+
+	@Test
+	void testPipelineIsReusableAndImmutable() {
+		final var base = Do.from(List.of(1, 2, 3, 4));
+		final var even = base.filter(i -> i % 2 == 0);
+
+		assertEquals(List.of(1, 2, 3, 4), base.toList());
+		assertEquals(List.of(2, 4), even.toList());
+		assertEquals(List.of(20, 40), even.map(i -> i * 10).toList());
+	}
+
+	@Test
+	void testPipelineShortCircuits() {
+		final var visited = new AtomicInteger();
+		final var pipeline = Do.from(List.of(1, 2, 3, 4)).map(i -> {
+			visited.incrementAndGet();
+			return i * 2;
+		});
+
+		assertTrue(pipeline.anyMatch(i -> i == 4));
+		assertEquals(2, visited.get());
+		assertEquals(Ø.of(6), pipeline.findAny(i -> i > 5));
+		assertFalse(pipeline.anyMatch(i -> i > 8));
+		assertTrue(pipeline.findAny(i -> i > 8).isEmpty());
+	}
+
+	@Test
+	void testMapAndFilterKeepPersistentVector() {
+		final var vector = PersistentVector.copyOf(IntStream.range(0, 1_000).boxed().collect(Collectors.toList()));
+
+		final var mapped = Do.map(vector, i -> i * 2);
+		final var filtered = Do.filter(vector, i -> i % 3 == 0);
+
+		assertTrue(mapped instanceof PersistentVector);
+		assertTrue(filtered instanceof PersistentVector);
+		assertEquals(vector.stream().map(i -> i * 2).collect(Collectors.toList()), mapped);
+		assertEquals(vector.stream().filter(i -> i % 3 == 0).collect(Collectors.toList()), filtered);
+		assertSame(vector, Do.filter(vector, i -> true));
+	}
+
+	@Test
+	void testMapAndFilterKeepPersistentSet() {
+		final var set = PersistentSet.copyOf(IntStream.range(0, 1_000).boxed().collect(Collectors.toSet()));
+
+		final var mapped = Do.map(set, i -> i % 10);
+		final var filtered = Do.filter(set, i -> i != 500);
+
+		assertTrue(mapped instanceof PersistentSet);
+		assertTrue(filtered instanceof PersistentSet);
+		assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toSet()), mapped);
+		assertEquals(999, filtered.size());
+		assertFalse(filtered.contains(500));
+		assertEquals(Set.of(1, 2), Do.filter(set, i -> i == 1 || i == 2));
+		assertSame(set, Do.filter(set, i -> true));
+	}
+
+	@Test
+	void testLazyMapOnlyMapsWhatIsRead() {
+		final var mapped = new AtomicInteger();
+		final var list = IntStream.range(0, 1_000).boxed().collect(Collectors.toUnmodifiableList());
+
+		final var view = Do.lazyMap(list, i -> {
+			mapped.incrementAndGet();
+			return i * 2;
+		});
+		assertEquals(0, mapped.get());
+
+		final var iterator = view.iterator();
+		assertEquals(0, iterator.next());
+		assertEquals(2, iterator.next());
+		assertEquals(2, mapped.get());
+	}
+
+	@Test
+	void testLazyFilterAndMapCompose() {
+		final var list = List.of(1, 2, 3, 4, 5, 6);
+
+		final var view = Do.lazyMap(Do.lazyFilter(list, i -> i % 2 == 0), i -> "#" + i);
+		final var now = new ArrayList<String>();
+		view.forEach(now::add);
+
+		assertEquals(List.of("#2", "#4", "#6"), now);
+		assertEquals(now, StreamSupport.stream(view.spliterator(), false).collect(Collectors.toList()));
+		assertEquals(now, StreamSupport.stream(view.spliterator(), true).collect(Collectors.toList()));
+	}
+
+	@Test
+	void testLazyViewReflectsSource() {
+		final var source = new ArrayList<>(List.of("a"));
+		final var view = Do.lazyMap(source, String::toUpperCase);
+
+		source.add("b");
+
+		assertEquals(List.of("A", "B"), StreamSupport.stream(view.spliterator(), false).collect(Collectors.toList()));
+	}
+
+	@Test
+	void testLazyIterators() {
+		final var iterator = Do.lazyFilter(Do.lazyMap(List.of("a", "bb", "ccc").iterator(), String::length), i -> i != 2);
+
+		assertTrue(iterator.hasNext());
+		assertTrue(iterator.hasNext());
+		assertEquals(1, iterator.next());
+		assertEquals(3, iterator.next());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+	}
+
+	@Test
+	void testGroupBy() {
+		final var list = List.of("apple", "avocado", "banana", "blueberry", "cherry", "apricot");
+
+		final var groups = Do.groupBy(list, s -> s.charAt(0));
+
+		assertEquals(list.stream().collect(Collectors.groupingBy(s -> s.charAt(0))), groups);
+		assertEquals(List.of("apple", "avocado", "apricot"), groups.get('a'));
+		assertThrows(UnsupportedOperationException.class, () -> groups.get('a').add("acai"));
+		assertEquals(Map.of(), Do.groupBy(List.<String>of(), s -> s.charAt(0)));
+		assertEquals(List.of(1, 3), Do.groupBy(new LinkedList<>(List.of(1, 2, 3)), i -> i % 2 == 0 ? "even" : null).get(null));
+	}
+
+	@Test
+	void testParGroupByKeepsOrderWithinGroups() {
+		final var list = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+		final var pool = new ForkJoinPool(4);
+
+		try {
+			final var groups = Do.parGroupBy(list, i -> i % 7, pool);
+
+			assertEquals(list.stream().collect(Collectors.groupingBy(i -> i % 7)), groups);
+			assertEquals(Do.groupBy(list, i -> i % 7), groups);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testPartition() {
+		final var halves = Do.partition(new LinkedList<>(List.of(1, 2, 3, 4, 5)), i -> i % 2 == 0);
+
+		assertEquals(List.of(2, 4), halves.get(true));
+		assertEquals(List.of(1, 3, 5), halves.get(false));
+		assertEquals(Map.of(true, List.of(), false, List.of()), Do.partition(List.<Integer>of(), i -> true));
+
+		final var all = List.of(1, 2, 3);
+		assertSame(all, Do.partition(all, i -> true).get(true));
+	}
+
+	@Test
+	void testChunk() {
+		final var list = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+
+		final var chunks = Do.chunk(list, 2);
+
+		assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), chunks);
+		assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), Do.chunk(new LinkedList<>(list), 2));
+		assertEquals(List.of(List.of(1, 2, 3, 4, 5)), Do.chunk(list, 10));
+		assertEquals(List.of(), Do.chunk(List.of(), 3));
+		assertThrows(UnsupportedOperationException.class, () -> chunks.get(0).set(0, 9));
+		assertThrows(IllegalArgumentException.class, () -> Do.chunk(list, 0));
+
+		list.set(0, 9);
+		assertEquals(List.of(9, 2), chunks.get(0));
+	}
+
+	@Test
+	void testLines(@TempDir final Path dir) throws Exception {
+		final var file = Files.writeString(dir.resolve("lines.txt"), "1\r\n22\nthree\n\nvier€\n5");
+
+		final var lines = Do.lines(file, line -> Integer.parseInt(line, 0, line.length(), 10));
+		final var outcomes = new ArrayList<Integer>();
+		lines.forEach(o -> outcomes.add(o.orElse(-1)));
+
+		assertEquals(List.of(1, 22, -1, -1, -1, 5), outcomes);
+		assertEquals(List.of("1", "22", "three", "", "vier€", "5"), Do.map(Do.lines(file, Line::toString).toList(), o -> o.orElse(null)));
+		assertEquals(List.of(1, 2, 5, 0, 5, 1), Do.map(Do.lines(file, Line::length).toList(), o -> o.orElse(null)));
+	}
+
+	@Test
+	void testLinesOfMissingFileYieldOneFailure(@TempDir final Path dir) {
+		final var outcomes = Do.lines(dir.resolve("missing.txt"), Line::toString).toList();
+
+		assertEquals(1, outcomes.size());
+		assertFalse(outcomes.get(0).isSuccessFul());
+	}
+
+	@Test
+	void testParLinesSplitOnLineBoundaries(@TempDir final Path dir) throws Exception {
+		final var expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+		final var file = Files.write(dir.resolve("numbers.txt"), Do.map(expected, String::valueOf));
+		final var pool = new ForkJoinPool(4);
+
+		try {
+			final var lines = Do.lines(file, line -> Integer.parseInt(line.toString()));
+
+			final var parsed = new ConcurrentLinkedQueue<Integer>();
+			Do.parLines(file, line -> Integer.parseInt(line.toString()), o -> parsed.add(o.orElse(null)), pool);
+			assertEquals(expected, Do.sortBy(List.copyOf(parsed), i -> i));
+			assertEquals(expected, StreamSupport.stream(lines.spliterator(), true).map(o -> o.orElse(null)).collect(Collectors.toList()));
+			assertEquals(7, lines.chunks(7).size());
+			assertEquals(expected, Do.map(lines.chunks(7).stream().flatMap(c -> c.toList().stream()).collect(Collectors.toList()), o -> o.orElse(null)));
+			assertEquals(1, Do.lines(file, Line::toString).chunks(1).size());
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testDistinctKeepsFirstOccurrenceOrder() {
+		final var list = Arrays.asList(3, 1, 3, null, 2, 1, null, 4);
+
+		assertEquals(Arrays.asList(3, 1, null, 2, 4), Do.distinct(list));
+		assertEquals(IntStream.range(0, 1_000).boxed().collect(Collectors.toList()),
+				Do.distinct(IntStream.range(0, 10_000).map(i -> i % 1_000).boxed().collect(Collectors.toList())));
+
+		final var unique = List.of(1, 2, 3);
+		assertSame(unique, Do.distinct(unique));
+	}
+
+	@Test
+	void testDistinctBy() {
+		final var list = new LinkedList<>(List.of("apple", "avocado", "banana", "cherry", "blueberry"));
+
+		assertEquals(List.of("apple", "banana", "cherry"), Do.distinctBy(list, s -> s.charAt(0)));
+		assertEquals(List.of("apple", "avocado"), Do.distinctBy(list, s -> s.length() > 5 ? null : s));
+	}
+
+	@Test
+	void testFoldAndReduce() {
+		final var list = new LinkedList<>(List.of("a", "bb", "ccc"));
+
+		assertEquals(6, Do.fold(list, 0, (sum, s) -> sum + s.length()));
+		assertEquals("x", Do.fold(List.<String>of(), "x", String::concat));
+		assertEquals("abbccc", Do.reduce(list, String::concat).orElseThrow());
+		assertEquals("abbccc", Do.reduce(List.copyOf(list), String::concat).orElseThrow());
+		assertTrue(Do.reduce(List.<String>of(), String::concat).isEmpty());
+	}
+
+	@Test
+	void testSummarize() {
+		final var list = List.of("a", "bb", "ccc", "dddd");
+
+		final var longs = Do.summarizeLong(list, String::length);
+		final var doubles = Do.summarizeDouble(list, s -> s.length() / 2.0);
+
+		assertEquals(4, longs.getCount());
+		assertEquals(10, longs.getSum());
+		assertEquals(1, longs.getMin());
+		assertEquals(4, longs.getMax());
+		assertEquals(2.5, longs.getAverage());
+		assertEquals(5.0, doubles.getSum());
+		assertEquals(0.5, doubles.getMin());
+		assertEquals(0, Do.summarizeLong(List.<String>of(), String::length).getCount());
+	}
+
+	@Test
+	void testParallelAggregatesMatchSequential() {
+		final var list = IntStream.range(0, 100_000).mapToObj(i -> "#" + i).collect(Collectors.toList());
+		final var pool = new ForkJoinPool(4);
+
+		try {
+			// String concatenation is associative but not commutative, so this checks the order too
+			assertEquals(Do.fold(list, "", String::concat), Do.parFold(list, "", String::concat, pool));
+			assertEquals(Do.reduce(list, String::concat), Do.parReduce(list, String::concat, pool));
+			assertEquals(Do.summarizeLong(list, String::length).toString(), Do.parSummarizeLong(list, String::length, pool).toString());
+			assertEquals(Do.summarizeDouble(list, String::length).getMax(), Do.parSummarizeDouble(list, String::length, pool).getMax());
+			assertEquals("", Do.parFold(List.of(), "", String::concat, pool));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testSortByComputesEachKeyOnce() {
+		final var calls = new AtomicInteger();
+		final var list = IntStream.range(0, 1_000).mapToObj(i -> (i * 7919) % 1_000).collect(Collectors.toList());
+
+		final var sorted = Do.sortBy(list, i -> {
+			calls.incrementAndGet();
+			return i;
+		});
+
+		assertEquals(IntStream.range(0, 1_000).boxed().collect(Collectors.toList()), sorted);
+		assertEquals(1_000, calls.get());
+		// stable: equal keys keep their order
+		assertEquals(List.of("b", "d", "a", "c", "e"), Do.sortBy(List.of("a", "b", "c", "d", "e"), s -> s.charAt(0) % 2));
+	}
+
+	@Test
+	void testTopK() {
+		final var list = new LinkedList<>(List.of("pear", "fig", "banana", "kiwi", "apple", "plum"));
+
+		assertEquals(List.of("banana", "apple", "pear"), Do.topK(list, 3, String::length));
+		assertEquals(List.of("banana", "apple", "pear", "kiwi", "plum", "fig"), Do.topK(list, 10, String::length));
+		assertEquals(List.of(), Do.topK(list, 0, String::length));
+		assertThrows(IllegalArgumentException.class, () -> Do.topK(list, -1, String::length));
+	}
+
+	@Test
+	void testParallelSortByAndTopKMatchSequential() {
+		final var list = IntStream.range(0, 100_000).mapToObj(i -> "#" + (i * 7919) % 50_000).collect(Collectors.toList());
+		final var pool = new ForkJoinPool(4);
+
+		try {
+			final var sorted = Do.parSortBy(list, String::length, pool);
+
+			assertEquals(list.stream().sorted(Comparator.comparing(String::length)).collect(Collectors.toList()), sorted);
+			assertEquals(Do.sortBy(list, s -> s), Do.parSortBy(list, s -> s, pool));
+			assertEquals(Do.topK(list, 25, s -> s), Do.parTopK(list, 25, s -> s, pool));
+			assertEquals(Do.topK(list, 25, String::length), Do.parTopK(list, 25, String::length, pool));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testParallelKeepsPersistentCollections() {
+		final var pool = new ForkJoinPool(4);
+		final var vector = PersistentVector.copyOf(IntStream.range(0, 5_000).boxed().collect(Collectors.toList()));
+		final var set = PersistentSet.copyOf(IntStream.range(0, 5_000).boxed().collect(Collectors.toSet()));
+
+		try {
+			assertTrue(Do.parMap(vector, i -> i * 2, pool) instanceof PersistentVector);
+			assertTrue(Do.parFilter(vector, i -> i % 2 == 0, pool) instanceof PersistentVector);
+			assertSame(vector, Do.parFilter(vector, i -> true, pool));
+			assertTrue(Do.parMap(set, i -> i * 2, pool) instanceof PersistentSet);
+			assertTrue(Do.parFilter(set, i -> i % 2 == 0, pool) instanceof PersistentSet);
+			assertSame(set, Do.parFilter(set, i -> true, pool));
+			assertEquals(Do.map(vector, i -> i * 2), Do.parMap(vector, i -> i * 2, pool));
+			assertEquals(Do.filter(set, i -> i % 2 == 0), Do.parFilter(set, i -> i % 2 == 0, pool));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
 	private class Tester {
 		private final SubTester subTester;
 
@@ -1,11 +1,26 @@
 package io.github.jevanlingen.luwak;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
+import io.github.jevanlingen.luwak.function.primitive.IntUnaryƒ;
+import io.github.jevanlingen.luwak.function.primitive.Intℙ;
 import io.github.jevanlingen.luwak.wrapper.Ø;
+import io.github.jevanlingen.luwak.wrapper.ØDouble;
+import io.github.jevanlingen.luwak.wrapper.ØInt;
+import io.github.jevanlingen.luwak.wrapper.ØLong;
+import io.github.jevanlingen.luwak.wrapper.ØView;
 import org.junit.jupiter.api.Test;
 
 class OptionalTest {
@@ -41,4 +56,125 @@ class OptionalTest {
 		assertTrue(result.isPresent());
 		assertEquals("D", result.get());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testØMapToNullIsEmpty() {
+		final var result = Ø.of("A").map(i -> null);
+
+		assertTrue(result.isEmpty());
+		assertSame(Ø.empty(), result);
+	}
+
+	@Test
+	void testØBehavesLikeOptional() {
+		assertEquals(Optional.of("A"), Ø.of("A").toOptional());
+		assertEquals(Optional.empty(), Ø.empty().toOptional());
+		assertEquals(Optional.of("A").toString(), Ø.of("A").toString());
+		assertEquals(Optional.empty().toString(), Ø.empty().toString());
+		assertEquals(Optional.of("A").hashCode(), Ø.of("A").hashCode());
+		assertEquals(Ø.of("A"), Ø.ofNullable("A"));
+		assertFalse(Ø.of("A").filter("B"::equals).isPresent());
+		assertEquals("B", Ø.<String>empty().orElse("B"));
+		assertThrows(NullPointerException.class, () -> Ø.of((String) null));
+		assertThrows(NoSuchElementException.class, () -> Ø.empty().orElseThrow());
+	}
+
+	@Test
+	void testØIntWithFilterAndMap() {
+		final var result = ØInt.of(2)
+				.filter(i -> i % 2 == 0)
+				.map(i -> i * 21);
+
+		assertEquals(42, result.orElse(-1));
+		assertEquals(-1, result.filter(i -> i > 100).orElse(-1));
+		assertEquals(OptionalInt.of(42), result.toOptional());
+		assertEquals(Ø.of(42), result.boxed());
+		assertEquals(result, ØInt.of(Ø.of(42)));
+		assertEquals("42", result.mapToObj(String::valueOf).orElseThrow());
+	}
+
+	@Test
+	void testØLongAndØDoubleConversions() {
+		assertEquals(ØLong.empty(), ØLong.of(OptionalLong.empty()));
+		assertEquals(7L, ØLong.of(Ø.of(7L)).orElseGet(() -> -1L));
+		assertEquals(3L, ØLong.of(1L).map(l -> l + 2).stream().sum());
+		assertEquals(OptionalDouble.of(1.5), ØDouble.of(3.0).map(d -> d / 2).toOptional());
+		assertEquals(ØDouble.of(Double.NaN), ØDouble.of(Double.NaN));
+		assertThrows(NoSuchElementException.class, () -> ØDouble.empty().orElseThrow());
+	}
+
+	@Test
+	void testPrimitiveØFlatMapAndOrWithComposedAliases() {
+		final Intℙ even = i -> i % 2 == 0;
+		final IntUnaryƒ twice = i -> i * 2;
+
+		assertEquals(ØInt.of(42), ØInt.of(20).flatMap(i -> ØInt.of(i + 1)).map(twice));
+		assertEquals(ØInt.empty(), ØInt.of(3).filter(even.and(i -> i > 0)));
+		assertEquals(ØInt.of(3), ØInt.of(3).filter(even.negate().or(i -> i > 100)));
+		assertEquals(ØInt.of(9), ØInt.empty().or(() -> ØInt.of(9)));
+		assertEquals(ØInt.of(12), ØInt.of(5).map(twice.compose(i -> i + 1)));
+		assertEquals(ØLong.of(6L), ØLong.of(3L).flatMap(l -> ØLong.of(l * 2)).or(() -> ØLong.of(0L)));
+		assertEquals(ØDouble.of(1.0), ØDouble.empty().or(() -> ØDouble.of(1.0)));
+		assertTrue(ØDouble.of(1.0).flatMap(d -> ØDouble.empty()).isEmpty());
+		assertThrows(NullPointerException.class, () -> ØInt.of(1).flatMap(i -> null));
+	}
+
+	@Test
+	void testLazyØIsReusable() {
+		final ØView<String, Integer> view = Ø.<String>lazy()
+				.map(String::trim)
+				.filter(s -> !s.isEmpty())
+				.flatMap(s -> s.startsWith("-") ? Ø.empty() : Ø.of(s))
+				.map(String::length);
+
+		assertEquals(3, view.orElse(" abc ", -1));
+		assertEquals(-1, view.orElse("   ", -1));
+		assertEquals(-1, view.orElse("-abc", -1));
+		assertEquals(-1, view.orElse(null, -1));
+		assertEquals(Ø.of(1), view.apply("a"));
+		assertThrows(NoSuchElementException.class, () -> view.orElseThrow(""));
+	}
+
+	@Test
+	void testØZip() {
+		assertEquals(Ø.of("A1"), Ø.zip(Ø.of("A"), Ø.of(1), (a, b) -> a + b));
+		assertEquals(Ø.of(6), Ø.zip(Ø.of(1), Ø.of(2), Ø.of(3), (a, b, c) -> a + b + c));
+		assertTrue(Ø.zip(Ø.of(1), Ø.of(2), Ø.<Integer>empty(), Ø.of(4), (a, b, c, d) -> a + b + c + d).isEmpty());
+	}
+
+	@Test
+	void testØSequenceAndTraverse() {
+		assertEquals(Ø.of(List.of(1, 2)), Ø.sequence(List.of(Ø.of(1), Ø.of(2))));
+		assertTrue(Ø.sequence(List.of(Ø.of(1), Ø.empty())).isEmpty());
+
+		final var mapped = new ArrayList<String>();
+		final var result = Ø.traverse(List.of("1", "x", "3"), s -> {
+			mapped.add(s);
+			return s.chars().allMatch(Character::isDigit) ? Ø.of(Integer.parseInt(s)) : Ø.empty();
+		});
+
+		assertTrue(result.isEmpty());
+		assertEquals(List.of("1", "x"), mapped);
+		assertEquals(Ø.of(List.of(1, 3)), Ø.traverse(List.of("1", "3"), s -> Ø.of(Integer.parseInt(s))));
+	}
+
+	@Test
+	void testØSharesCanonicalInstances() {
+		assertSame(Ø.of(true), Ø.of(Boolean.TRUE));
+		assertSame(Ø.of(false), Ø.ofNullable(false));
+		assertSame(Ø.of(42), Ø.of(Optional.of(42)));
+		assertSame(Ø.of(Thread.State.NEW), Ø.of(Thread.State.NEW));
+		assertEquals(Ø.of(1000), Ø.of(1000));
+	}
+
+	@Test
+	void testØFoldAndMatch() {
+		assertEquals("A!", Ø.of("A").fold(a -> a + "!", () -> "empty"));
+		assertEquals("empty", Ø.<String>empty().fold(a -> a + "!", () -> "empty"));
+
+		final var matched = new ArrayList<String>();
+		Ø.of("A").match(matched::add, () -> matched.add("empty"));
+		Ø.<String>empty().match(matched::add, () -> matched.add("empty"));
+		assertEquals(List.of("A", "empty"), matched);
+	}
+}
@@ -0,0 +1,161 @@
+package io.github.jevanlingen.luwak;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.jevanlingen.luwak.util.PersistentSet;
+import io.github.jevanlingen.luwak.util.PersistentVector;
+
+class PersistentTest {
+	@Test
+	void testVectorPlusMatchesArrayList() {
+		final var expected = new ArrayList<Integer>();
+		var vector = PersistentVector.<Integer>empty();
+
+		for (int i = 0; i < 5_000; i++) {
+			expected.add(i);
+			vector = vector.plus(i);
+		}
+
+		assertEquals(expected, vector);
+		assertEquals(expected.hashCode(), vector.hashCode());
+		assertEquals(expected, new ArrayList<>(vector));
+		assertEquals(4_321, vector.get(4_321));
+	}
+
+	@Test
+	void testVectorCopyOfMatchesPlus() {
+		for (int size : new int[] { 0, 1, 31, 32, 33, 64, 1_056, 1_057, 40_000 }) {
+			final var list = IntStream.range(0, size).boxed().collect(Collectors.toList());
+			final var copy = PersistentVector.copyOf(list);
+
+			assertEquals(list, copy);
+			assertEquals(list, copy.plus(-1).subList(0, size));
+			assertEquals(-1, copy.plus(-1).get(size));
+		}
+	}
+
+	@Test
+	void testVectorWithSharesAndLeavesOriginalUntouched() {
+		final var original = PersistentVector.copyOf(IntStream.range(0, 2_000).boxed().collect(Collectors.toList()));
+		final var random = new Random(42);
+		final var expected = new ArrayList<>(original);
+		var updated = original;
+
+		for (int i = 0; i < 500; i++) {
+			final int index = random.nextInt(expected.size());
+			expected.set(index, -i);
+			updated = updated.with(index, -i);
+		}
+
+		assertEquals(expected, updated);
+		assertEquals(IntStream.range(0, 2_000).boxed().collect(Collectors.toList()), original);
+		assertThrows(IndexOutOfBoundsException.class, () -> original.with(2_000, 0));
+		assertThrows(UnsupportedOperationException.class, () -> original.set(0, 0));
+	}
+
+	@Test
+	void testVectorPermitsNull() {
+		final var vector = PersistentVector.of("a", null, "c");
+
+		assertEquals(Arrays.asList("a", null, "c"), vector);
+		assertEquals(Arrays.asList("a", "b", "c"), vector.with(1, "b"));
+	}
+
+	@Test
+	void testVectorOfSubtypeArrayAcceptsOtherElements() {
+		final Object[] small = new String[] { "a", "b" };
+		final Object[] large = IntStream.range(0, 100).mapToObj(String::valueOf).toArray(String[]::new);
+
+		final PersistentVector<Object> vector = PersistentVector.of(small);
+		assertEquals(List.of("a", "b", 1), vector.plus(1));
+		assertEquals(List.of(1, "b"), vector.with(0, 1));
+
+		final PersistentVector<Object> trie = PersistentVector.of(large);
+		assertEquals(1, trie.with(3, 1).get(3));
+		assertEquals(1, trie.with(99, 1).get(99));
+		assertEquals(1, trie.plus(1).get(100));
+		assertTrue(PersistentSet.<Object>of(small).plus(1).contains(1));
+	}
+
+	@Test
+	void testSetPlusAndMinusMatchHashSet() {
+		final var random = new Random(7);
+		final var expected = new HashSet<Integer>();
+		var set = PersistentSet.<Integer>empty();
+
+		for (int i = 0; i < 20_000; i++) {
+			final int value = random.nextInt(5_000);
+			if (random.nextBoolean()) {
+				expected.add(value);
+				set = set.plus(value);
+			}
+			else {
+				expected.remove(value);
+				set = set.minus(value);
+			}
+		}
+
+		assertEquals(expected, set);
+		assertEquals(set, expected);
+		assertEquals(expected.size(), set.size());
+		assertEquals(expected.hashCode(), set.hashCode());
+	}
+
+	@Test
+	void testSetWithCollidingHashCodes() {
+		final var a = new Colliding("a");
+		final var b = new Colliding("b");
+		final var c = new Colliding("c");
+
+		final var set = PersistentSet.of(a, b, c, null);
+
+		assertEquals(4, set.size());
+		assertTrue(set.contains(b));
+		assertTrue(set.contains(null));
+		assertFalse(set.contains(new Colliding("d")));
+		assertEquals(new HashSet<>(List.of(a, c)), set.minus(b).minus(null));
+		assertEquals(1, set.minus(a).minus(b).minus(null).size());
+	}
+
+	@Test
+	void testSetReturnsItselfWhenUnchanged() {
+		final var set = PersistentSet.of(1, 2, 3);
+
+		assertSame(set, set.plus(2));
+		assertSame(set, set.minus(4));
+		assertSame(set, PersistentSet.copyOf(set));
+		assertThrows(UnsupportedOperationException.class, () -> set.add(4));
+	}
+
+	private static final class Colliding {
+		private final String name;
+
+		Colliding(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			return o instanceof Colliding && ((Colliding) o).name.equals(name);
+		}
+
+		@Override
+		public int hashCode() {
+			return 17;
+		}
+	}
+}
@@ -2,17 +2,36 @@ package io.github.jevanlingen.luwak;
 
 import static java.net.http.HttpResponse.BodyHandlers.ofString;
 import static io.github.jevanlingen.luwak.wrapper.Œ.doTry;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import io.github.jevanlingen.luwak.function.ƒ;
+import io.github.jevanlingen.luwak.wrapper.Unit;
+import io.github.jevanlingen.luwak.wrapper.Ø;
 import io.github.jevanlingen.luwak.wrapper.Œ;
+import io.github.jevanlingen.luwak.wrapper.ŒAsync;
+import io.github.jevanlingen.luwak.wrapper.ŒTyped;
 import org.junit.jupiter.api.Test;
 
 class ResultTest {
@@ -99,6 +118,209 @@ class ResultTest {
 		assertFalse(result);
 	}
 
+	@Test
+	void testCanonicalSuccesses() {
+		assertSame(Œ.of(true), Œ.of(true));
+		assertSame(Œ.of(7), doTry(() -> 7));
+		assertSame(Œ.of(Unit.INSTANCE), Œ.doRun(() -> {}));
+		assertFalse(Œ.doRun(() -> { throw new Exception("fail"); }).isSuccessFul());
+	}
+
+	@Test
+	void testStacklessFailures() {
+		final var stackless = Œ.<Integer>stacklessFailure("fail").ifSuccessfulOrException(a -> {});
+		assertEquals(0, stackless.get().getStackTrace().length);
+		assertTrue(Œ.failure("fail").ifSuccessfulOrException(a -> {}).get().getStackTrace().length > 0);
+
+		Œ.setStackTraceSampling(0);
+		try {
+			final var filtered = Œ.of(2).filter(i -> i > 2).ifSuccessfulOrException(a -> {});
+			final var checked = doTry(() -> { throw new Exception("checked"); }).ifSuccessfulOrException(a -> {});
+
+			assertEquals("Condition did not match", filtered.get().getMessage());
+			assertEquals(0, filtered.get().getStackTrace().length);
+			assertEquals(0, checked.get().getStackTrace().length);
+			assertTrue(checked.get().getCause().getStackTrace().length > 0);
+		}
+		finally {
+			Œ.setStackTraceSampling(1);
+		}
+	}
+
+	@Test
+	void testFailurePropagatesWithoutNewInstances() {
+		final Œ<Integer> failure = Œ.failure("fail");
+
+		assertSame(failure, failure.map(i -> i * 2));
+		assertSame(failure, failure.flatMap(i -> Œ.of(i * 2)));
+		assertSame(failure, failure.filter(i -> i > 2));
+		assertEquals(Œ.of(3).orElse(-1), failure.or(() -> Œ.of(3)).orElse(-1));
+	}
+
+	@Test
+	void testFoldAndMatch() {
+		assertEquals("4", doTry(() -> 2 + 2).fold(String::valueOf, RuntimeException::getMessage));
+		assertEquals("/ by zero", doTry(() -> 2 / 0).fold(String::valueOf, RuntimeException::getMessage));
+		assertFalse(Œ.of(2).isSuccessFul(i -> i / 0 > 1));
+
+		final var matched = new StringBuilder();
+		doTry(() -> 2 / 0).match(matched::append, e -> matched.append("failure"));
+		assertEquals("failure", matched.toString());
+	}
+
+	@Test
+	void testAsyncDoTry() {
+		final var result = ŒAsync.doTry(() -> 2 + 2)
+				.map(i -> i * 2)
+				.flatMap(i -> ŒAsync.doTry(() -> i + 1))
+				.join();
+
+		assertEquals(9, result.orElse(-1));
+	}
+
+	@Test
+	void testAsyncFailureIsNotACompletionException() {
+		final var result = ŒAsync.doTry(() -> 2 / 0).map(i -> i * 2).join();
+		final var fromFuture = ŒAsync.<Integer>fromFuture(CompletableFuture.failedFuture(new IllegalArgumentException("bad"))).join();
+
+		assertEquals(ArithmeticException.class, result.ifSuccessfulOrException(a -> {}).get().getClass());
+		assertEquals(IllegalArgumentException.class, fromFuture.ifSuccessfulOrException(a -> {}).get().getClass());
+	}
+
+	@Test
+	void testAsyncToCompletableFuture() throws Exception {
+		final var executor = Executors.newSingleThreadExecutor();
+		try {
+			assertEquals(4, ŒAsync.doTry(() -> 2 + 2, executor).toValueFuture().get());
+			assertThrows(ExecutionException.class, () -> ŒAsync.doTry(() -> 2 / 0, executor).toValueFuture().get());
+			assertFalse(ŒAsync.doTry(() -> 2 / 0, executor).toCompletableFuture().get().isSuccessFul());
+			assertFalse(ŒAsync.of(Œ.of(1)).filter(i -> i > 1).join().isSuccessFul());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testSequenceAndTraverse() {
+		assertEquals(List.of(1, 2), Œ.sequence(List.of(Œ.of(1), Œ.of(2))).orElse(List.of()));
+		assertEquals("first", Œ.sequence(List.of(Œ.of(1), Œ.failure("first"), Œ.failure("second")))
+				.fold(String::valueOf, RuntimeException::getMessage));
+		assertEquals("first", Œ.sequence(Stream.of(Œ.of(1), Œ.failure("first"), Œ.failure("second")))
+				.fold(String::valueOf, RuntimeException::getMessage));
+
+		final var mapped = new ArrayList<String>();
+		final var result = Œ.traverse(List.of("1", "x", "3"), s -> {
+			mapped.add(s);
+			return doTry(() -> Integer.parseInt(s));
+		});
+
+		assertFalse(result.isSuccessFul());
+		assertEquals(List.of("1", "x"), mapped);
+	}
+
+	@Test
+	void testCollectors() {
+		final var values = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+		final var sequential = values.stream().map(Œ::of).collect(Œ.toList(values.size()));
+		final var parallel = values.parallelStream().map(Œ::of).collect(Œ.toList());
+		final var failed = values.parallelStream()
+				.map(i -> i == 5_000 || i == 7_000 ? Œ.<Integer>failure("failed at " + i) : Œ.of(i))
+				.collect(Œ.toList());
+
+		assertEquals(values, sequential.orElse(List.of()));
+		assertEquals(values, parallel.orElse(List.of()));
+		assertEquals("failed at 5000", failed.fold(String::valueOf, RuntimeException::getMessage));
+	}
+
+	@Test
+	void testDoTryWithTimeout() {
+		final var interrupted = new CountDownLatch(1);
+
+		final var fast = doTry(() -> 2 + 2, Duration.ofSeconds(5));
+		final var slow = doTry(() -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+				throw e;
+			}
+			return 4;
+		}, Duration.ofMillis(50));
+
+		assertEquals(4, fast.orElse(-1));
+		assertEquals("Deadline exceeded", slow.fold(String::valueOf, RuntimeException::getMessage));
+		assertDoesNotThrow(() -> assertTrue(interrupted.await(5, TimeUnit.SECONDS)));
+	}
+
+	@Test
+	void testDeadlineFailureIsSharedAndImmutable() {
+		final RuntimeException first = doTry(() -> 1, Duration.ZERO).fold(i -> null, e -> e);
+		final RuntimeException second = doTry(() -> 1, Duration.ZERO).fold(i -> null, e -> e);
+
+		first.addSuppressed(new IllegalStateException("cleanup"));
+
+		assertSame(first, second);
+		assertEquals("Deadline exceeded", second.getMessage());
+		assertEquals(0, second.getSuppressed().length);
+		assertEquals(0, second.getStackTrace().length);
+	}
+
+	@Test
+	void testDoTryWithTimeoutRethrowsErrors() {
+		assertThrows(StackOverflowError.class, () -> doTry(() -> {
+			throw new StackOverflowError();
+		}, Duration.ofSeconds(10)));
+	}
+
+	@Test
+	void testNestedDoTryShareTheDeadline() throws InterruptedException {
+		final var nestedBudget = doTry(() -> doTry(() -> Œ.deadlineBudget().orElseThrow(), Duration.ofSeconds(10))
+				.orElse(Duration.ZERO), Duration.ofSeconds(5)).orElse(Duration.ZERO);
+
+		assertTrue(nestedBudget.compareTo(Duration.ZERO) > 0);
+		assertTrue(nestedBudget.compareTo(Duration.ofSeconds(5)) <= 0);
+		assertTrue(Œ.deadlineBudget().isEmpty());
+
+		final var observed = new AtomicReference<Œ<Integer>>();
+		final var done = new CountDownLatch(1);
+		doTry(() -> {
+			while (!Œ.deadlineBudget().orElseThrow().isNegative()) {
+				Thread.onSpinWait();
+			}
+			observed.set(doTry(() -> 1));
+			done.countDown();
+			return 1;
+		}, Duration.ofMillis(50));
+
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals("Deadline exceeded", observed.get().fold(String::valueOf, RuntimeException::getMessage));
+	}
+
+	@Test
+	void testTypedErrors() {
+		final ƒ<String, ŒTyped<LookupError, Integer>> lookup = key -> "a".equals(key)
+				? ŒTyped.success(1_000)
+				: ŒTyped.failure(LookupError.NOT_FOUND);
+
+		assertEquals(1_001, lookup.apply("a").map(i -> i + 1).orElse(-1));
+		assertSame(lookup.apply("b"), lookup.apply("c"));
+		assertSame(lookup.apply("b"), lookup.apply("b").map(i -> i + 1).flatMap(i -> ŒTyped.success(i * 2)));
+		assertEquals("NOT_FOUND", lookup.apply("b").fold(String::valueOf, LookupError::name));
+		assertEquals(Ø.of("not_found"), lookup.apply("b").mapError(e -> e.name().toLowerCase()).error());
+	}
+
+	@Test
+	void testTypedErrorsConvertToAndFromŒ() {
+		assertEquals("NOT_FOUND", ŒTyped.failure(LookupError.NOT_FOUND).toŒ().fold(String::valueOf, RuntimeException::getMessage));
+		assertTrue(ŒTyped.success(1).toŒ().isSuccessFul());
+		assertEquals("/ by zero", ŒTyped.fromŒ(doTry(() -> 1 / 0)).error().orElseThrow().getMessage());
+	}
+
+	private enum LookupError { NOT_FOUND, INVALID_STATE }
+
 	@SafeVarargs
 	public static boolean validate(Œ<Integer>... constraints) {
 		return Arrays.stream(constraints).allMatch(Œ::isSuccessFul);
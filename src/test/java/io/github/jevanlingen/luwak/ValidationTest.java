@@ -0,0 +1,86 @@
+package io.github.jevanlingen.luwak;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.jevanlingen.luwak.wrapper.Validation;
+import io.github.jevanlingen.luwak.wrapper.Œ;
+
+class ValidationTest {
+	private enum Error { NAME_EMPTY, AGE_NEGATIVE, EMAIL_INVALID }
+
+	@Test
+	void testMapNWithValidValues() {
+		final var result = Validation.mapN(
+				Validation.of(n -> !n.isEmpty(), "Jane", Error.NAME_EMPTY),
+				Validation.of(a -> a >= 0, 42, Error.AGE_NEGATIVE),
+				(name, age) -> name + " " + age);
+
+		assertTrue(result.isValid());
+		assertEquals("Jane 42", result.orElse(""));
+		assertTrue(result.errors().isEmpty());
+	}
+
+	@Test
+	void testMapNAccumulatesAllErrors() {
+		final var result = Validation.mapN(
+				Validation.of(n -> !n.isEmpty(), "", Error.NAME_EMPTY),
+				Validation.of(a -> a >= 0, -1, Error.AGE_NEGATIVE),
+				Validation.of(e -> e.contains("@"), "jane", Error.EMAIL_INVALID),
+				(name, age, email) -> name + age + email);
+
+		assertFalse(result.isValid());
+		assertEquals(List.of(Error.NAME_EMPTY, Error.AGE_NEGATIVE, Error.EMAIL_INVALID), result.errors());
+	}
+
+	@Test
+	void testLongCombineChainKeepsAllErrorsInOrder() {
+		final Validation<Integer, Integer> first = Validation.invalid(0);
+		Validation<Integer, Integer> result = first;
+		for (int i = 1; i < 100_000; i++) {
+			result = result.combine(Validation.invalid(i), Integer::sum);
+		}
+
+		assertEquals(IntStream.range(0, 100_000).boxed().collect(Collectors.toList()), result.errors());
+		assertSame(first, Validation.mapN(Validation.valid(1), first, Integer::sum));
+		assertEquals(List.of(0, 7), Validation.mapN(first, Validation.valid(1), Validation.invalid(7), (a, b, c) -> a).errors());
+	}
+
+	@Test
+	void testCombineAndMapError() {
+		final Validation<Error, Integer> age = Validation.invalid(Error.AGE_NEGATIVE);
+		final var result = Validation.<Error, String>valid("Jane")
+				.combine(age, (name, a) -> name + a)
+				.mapError(Error::name);
+
+		assertEquals(List.of("AGE_NEGATIVE"), result.errors());
+		assertEquals(7, Validation.valid(5).map(i -> i + 2).orElse(-1));
+	}
+
+	@Test
+	void testConversionFromAndToŒ() {
+		assertTrue(Validation.fromŒ(Œ.of(1)).isValid());
+		assertEquals("/ by zero", Validation.fromŒ(Œ.doTry(() -> 1 / 0)).errors().get(0).getMessage());
+		assertTrue(Validation.valid(1).toŒ().isSuccessFul());
+		assertEquals("[NAME_EMPTY]", Validation.invalid(Error.NAME_EMPTY).toŒ()
+				.fold(String::valueOf, RuntimeException::getMessage));
+	}
+
+	@Test
+	void testRoundTripThroughŒKeepsTheException() {
+		final Œ<Integer> failure = Œ.doTry(() -> 1 / 0);
+		final RuntimeException exception = failure.fold(i -> null, e -> e);
+
+		assertSame(exception, Validation.fromŒ(failure).toŒ().fold(i -> null, e -> e));
+		assertEquals(Œ.of(1).orElse(-1), Validation.fromŒ(Œ.of(1)).toŒ().orElse(-1));
+		assertEquals(0, Validation.invalid(Error.NAME_EMPTY).toŒ().fold(i -> null, e -> e).getStackTrace().length);
+	}
+}